@@ -86,10 +86,6 @@ public final class ArbitraryPropertyGeneratorContext {
 	}
 
 	public PropertyNameResolver getPropertyNameResolver() {
-		return this.getPropertyNameResolvers().stream()
-			.filter(it -> it.match(this.property))
-			.map(MatcherOperator::getOperator)
-			.findFirst()
-			.orElse(PropertyNameResolver.IDENTITY);
+		return this.generateOptions.getPropertyNameResolver(this.property);
 	}
 }
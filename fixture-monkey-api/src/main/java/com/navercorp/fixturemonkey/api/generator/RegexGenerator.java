@@ -0,0 +1,389 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.generator;
+
+import static java.util.stream.Collectors.toList;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import javax.annotation.Nullable;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+import net.jqwik.api.Arbitraries;
+import net.jqwik.api.Arbitrary;
+
+import com.mifmif.common.regex.Generex;
+
+import dk.brics.automaton.Automaton;
+import dk.brics.automaton.RegExp;
+import dk.brics.automaton.State;
+import dk.brics.automaton.Transition;
+
+/**
+ * Generates the strings matching a regular expression, its automaton is compiled once per expression and length.
+ */
+@API(since = "0.4.0", status = Status.EXPERIMENTAL)
+public final class RegexGenerator {
+	private static final Map<String, String> PREDEFINED_CHARACTER_CLASSES;
+	private static final Map<String, Integer> FLAGS;
+	private static final int DEFAULT_MIN_LENGTH = 0;
+	private static final int DEFAULT_MAX_LENGTH = 255;
+	private static final int MATCHED_STRINGS_LIMIT = 100;
+	private static final int MAX_CACHE_SIZE = 256;
+	private static final int MAX_WALK_TRIES = 10;
+	// the least recently used automaton is evicted when full
+	private static final Map<RegexKey, CompiledRegex> COMPILED_REGEX_CACHE = Collections.synchronizedMap(
+		new LinkedHashMap<RegexKey, CompiledRegex>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<RegexKey, CompiledRegex> eldest) {
+				return size() > MAX_CACHE_SIZE;
+			}
+		}
+	);
+
+	static {
+		Map<String, String> characterClasses = new HashMap<>();
+		characterClasses.put("\\\\d", "[0-9]");
+		characterClasses.put("\\\\D", "[^0-9]");
+		characterClasses.put("\\\\s", "[ \t\n\f\r]");
+		characterClasses.put("\\\\S", "[^ \t\n\f\r]");
+		characterClasses.put("\\\\w", "[a-zA-Z_0-9]");
+		characterClasses.put("\\\\W", "[^a-zA-Z_0-9]");
+		PREDEFINED_CHARACTER_CLASSES = Collections.unmodifiableMap(characterClasses);
+
+		Map<String, Integer> flags = new HashMap<>();
+		flags.put("UNIX_LINES", Pattern.UNIX_LINES);
+		flags.put("CASE_INSENSITIVE", Pattern.CASE_INSENSITIVE);
+		flags.put("COMMENTS", Pattern.COMMENTS);
+		flags.put("MULTILINE", Pattern.MULTILINE);
+		flags.put("DOTALL", Pattern.DOTALL);
+		flags.put("UNICODE_CASE", Pattern.UNICODE_CASE);
+		flags.put("CANON_EQ", Pattern.CANON_EQ);
+		FLAGS = Collections.unmodifiableMap(flags);
+	}
+
+	/**
+	 * Combines the {@code Pattern.Flag} of Bean Validation, each flag is matched by its name
+	 * to the flag of {@link Pattern} which it stands for.
+	 */
+	public static int toFlags(Enum<?>... flags) {
+		int combined = 0;
+		for (Enum<?> flag : flags) {
+			Integer value = FLAGS.get(flag.name());
+			if (value == null) {
+				throw new IllegalArgumentException("Unknown regex flag. flag: " + flag.name());
+			}
+			combined = combined | value;
+		}
+		return combined;
+	}
+
+	public List<String> generateAll(String regex) {
+		return this.generateAll(regex, 0, null, null);
+	}
+
+	/**
+	 * Returns at most 100 matches of {@code regex} in random order.
+	 *
+	 * @param flags the combined values of {@code javax.validation.constraints.Pattern.Flag}
+	 * @see #toFlags(Enum[])
+	 */
+	public List<String> generateAll(String regex, int flags, @Nullable Integer min, @Nullable Integer max) {
+		return compile(regex, flags, min, max).getCandidates();
+	}
+
+	/**
+	 * Returns an arbitrary drawing random matches of {@code regex} directly from its automaton,
+	 * not limited to the enumerated candidates of {@link #generateAll(String, int, Integer, Integer)}.
+	 * It throws {@link IllegalArgumentException} if no string of the length matches {@code regex}.
+	 *
+	 * @param flags the combined values of {@code javax.validation.constraints.Pattern.Flag}
+	 * @see #toFlags(Enum[])
+	 */
+	public Arbitrary<String> generate(String regex, int flags, @Nullable Integer min, @Nullable Integer max) {
+		CompiledRegex compiledRegex = compile(regex, flags, min, max);
+		if (!compiledRegex.isGeneratable()) {
+			if (compiledRegex.getCandidates().isEmpty()) {
+				throw compiledRegex.notMatchedException();
+			}
+			return Arbitraries.of(compiledRegex.getCandidates());
+		}
+
+		return Arbitraries.randomValue(compiledRegex::next);
+	}
+
+	private static CompiledRegex compile(String regexp, int flags, @Nullable Integer min, @Nullable Integer max) {
+		RegexKey key = new RegexKey(
+			regexp,
+			flags,
+			min == null ? DEFAULT_MIN_LENGTH : min,
+			max == null ? DEFAULT_MAX_LENGTH : max
+		);
+
+		CompiledRegex compiledRegex = COMPILED_REGEX_CACHE.get(key);
+		if (compiledRegex == null) {
+			// compiled out of the lock, a concurrent duplicate compilation is harmless
+			compiledRegex = CompiledRegex.compile(key);
+			COMPILED_REGEX_CACHE.put(key, compiledRegex);
+		}
+		return compiledRegex;
+	}
+
+	private static final class RegexKey {
+		private final String regexp;
+		private final int flags;
+		private final int min;
+		private final int max;
+
+		private RegexKey(String regexp, int flags, int min, int max) {
+			this.regexp = regexp;
+			this.flags = flags;
+			this.min = min;
+			this.max = max;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (obj == null || getClass() != obj.getClass()) {
+				return false;
+			}
+			RegexKey that = (RegexKey)obj;
+			return flags == that.flags
+				&& min == that.min
+				&& max == that.max
+				&& regexp.equals(that.regexp);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(regexp, flags, min, max);
+		}
+	}
+
+	private static final class CompiledRegex {
+		private static final int UNREACHABLE = Integer.MAX_VALUE;
+
+		private final String regexp;
+		private final int min;
+		private final int max;
+		private final List<String> candidates;
+		private final boolean[] accepts;
+		private final int[] acceptDistances;
+		private final char[][] transitionMins;
+		private final char[][] transitionMaxes;
+		private final int[][] transitionDestinations;
+		private final int maxTransitionCount;
+
+		private CompiledRegex(
+			String regexp,
+			int min,
+			int max,
+			List<String> candidates,
+			boolean[] accepts,
+			int[] acceptDistances,
+			char[][] transitionMins,
+			char[][] transitionMaxes,
+			int[][] transitionDestinations
+		) {
+			this.regexp = regexp;
+			this.min = min;
+			this.max = max;
+			this.candidates = candidates;
+			this.accepts = accepts;
+			this.acceptDistances = acceptDistances;
+			this.transitionMins = transitionMins;
+			this.transitionMaxes = transitionMaxes;
+			this.transitionDestinations = transitionDestinations;
+			int count = 0;
+			for (int[] destinations : transitionDestinations) {
+				count = Math.max(count, destinations.length);
+			}
+			this.maxTransitionCount = count;
+		}
+
+		private static CompiledRegex compile(RegexKey key) {
+			String regex = key.regexp;
+			for (Map.Entry<String, String> charClass : PREDEFINED_CHARACTER_CLASSES.entrySet()) {
+				regex = regex.replaceAll(charClass.getKey(), charClass.getValue());
+			}
+
+			RegExp regExp = key.flags == 0 ? new RegExp(regex) : new RegExp(regex, key.flags);
+			Automaton automaton = regExp.toAutomaton();
+
+			List<String> candidates = new Generex(automaton).getMatchedStrings(MATCHED_STRINGS_LIMIT).stream()
+				.filter(it -> it.length() >= key.min && it.length() <= key.max)
+				.collect(toList());
+			Collections.shuffle(candidates);
+
+			List<State> states = new ArrayList<>();
+			Map<State, Integer> indexes = new HashMap<>();
+			State initialState = automaton.getInitialState();
+			states.add(initialState);
+			indexes.put(initialState, 0);
+			for (State state : automaton.getStates()) {
+				if (!indexes.containsKey(state)) {
+					indexes.put(state, states.size());
+					states.add(state);
+				}
+			}
+
+			int size = states.size();
+			boolean[] accepts = new boolean[size];
+			char[][] transitionMins = new char[size][];
+			char[][] transitionMaxes = new char[size][];
+			int[][] transitionDestinations = new int[size][];
+			for (int i = 0; i < size; i++) {
+				State state = states.get(i);
+				accepts[i] = state.isAccept();
+				Set<Transition> transitions = state.getTransitions();
+				transitionMins[i] = new char[transitions.size()];
+				transitionMaxes[i] = new char[transitions.size()];
+				transitionDestinations[i] = new int[transitions.size()];
+				int j = 0;
+				for (Transition transition : transitions) {
+					transitionMins[i][j] = transition.getMin();
+					transitionMaxes[i][j] = transition.getMax();
+					transitionDestinations[i][j] = indexes.get(transition.getDest());
+					j++;
+				}
+			}
+
+			return new CompiledRegex(
+				key.regexp,
+				key.min,
+				key.max,
+				Collections.unmodifiableList(candidates),
+				accepts,
+				toAcceptDistances(accepts, transitionDestinations),
+				transitionMins,
+				transitionMaxes,
+				transitionDestinations
+			);
+		}
+
+		private static int[] toAcceptDistances(boolean[] accepts, int[][] transitionDestinations) {
+			int[] distances = new int[accepts.length];
+			Arrays.fill(distances, UNREACHABLE);
+			for (int i = 0; i < accepts.length; i++) {
+				if (accepts[i]) {
+					distances[i] = 0;
+				}
+			}
+
+			boolean changed = true;
+			while (changed) {
+				changed = false;
+				for (int i = 0; i < accepts.length; i++) {
+					for (int destination : transitionDestinations[i]) {
+						if (distances[destination] != UNREACHABLE && distances[destination] + 1 < distances[i]) {
+							distances[i] = distances[destination] + 1;
+							changed = true;
+						}
+					}
+				}
+			}
+			return distances;
+		}
+
+		public List<String> getCandidates() {
+			return candidates;
+		}
+
+		public boolean isGeneratable() {
+			return acceptDistances[0] <= max;
+		}
+
+		public String next(Random random) {
+			for (int i = 0; i < MAX_WALK_TRIES; i++) {
+				String value = walk(random);
+				if (value != null) {
+					return value;
+				}
+			}
+
+			if (candidates.isEmpty()) {
+				throw notMatchedException();
+			}
+			return candidates.get(random.nextInt(candidates.size()));
+		}
+
+		public IllegalArgumentException notMatchedException() {
+			return new IllegalArgumentException(
+				"No string of length between " + min + " and " + max + " matches the regex. regex: " + regexp
+			);
+		}
+
+		@Nullable
+		private String walk(Random random) {
+			StringBuilder builder = new StringBuilder();
+			int state = 0;
+			int[] reachables = new int[maxTransitionCount];
+			while (true) {
+				int length = builder.length();
+				boolean stoppable = accepts[state] && length >= min;
+
+				int reachableCount = 0;
+				int[] destinations = transitionDestinations[state];
+				for (int i = 0; i < destinations.length; i++) {
+					int distance = acceptDistances[destinations[i]];
+					if (distance != UNREACHABLE && length + 1 + distance <= max) {
+						reachables[reachableCount++] = i;
+					}
+				}
+
+				if (reachableCount == 0) {
+					return stoppable ? builder.toString() : null;
+				}
+
+				if (stoppable && random.nextInt(reachableCount + 1) == 0) {
+					return builder.toString();
+				}
+
+				int transition = reachables[random.nextInt(reachableCount)];
+				builder.append(nextChar(random, transitionMins[state][transition], transitionMaxes[state][transition]));
+				state = destinations[transition];
+			}
+		}
+
+		private static char nextChar(Random random, char min, char max) {
+			for (int i = 0; i < MAX_WALK_TRIES; i++) {
+				char ch = (char)(min + random.nextInt(max - min + 1));
+				if (!Character.isSurrogate(ch)) {
+					return ch;
+				}
+			}
+			return min;
+		}
+	}
+}
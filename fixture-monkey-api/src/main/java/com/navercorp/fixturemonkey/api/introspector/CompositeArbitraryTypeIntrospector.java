@@ -25,30 +25,27 @@ import org.apiguardian.api.API.Status;
 
 import com.navercorp.fixturemonkey.api.generator.ArbitraryGeneratorContext;
 import com.navercorp.fixturemonkey.api.matcher.Matcher;
+import com.navercorp.fixturemonkey.api.matcher.MatcherIndex;
 
 @API(since = "0.4.0", status = Status.EXPERIMENTAL)
 public class CompositeArbitraryTypeIntrospector implements ArbitraryTypeIntrospector {
 	private final List<ArbitraryTypeIntrospector> introspectors;
+	private final MatcherIndex<ArbitraryTypeIntrospector> introspectorIndex;
 
 	public CompositeArbitraryTypeIntrospector(List<ArbitraryTypeIntrospector> introspectors) {
 		this.introspectors = introspectors;
+		this.introspectorIndex = new MatcherIndex<>(
+			introspectors,
+			introspector -> introspector instanceof Matcher ? (Matcher)introspector : null
+		);
 	}
 
 	@Override
 	public ArbitraryIntrospectorResult introspect(ArbitraryGeneratorContext context) {
-		for (ArbitraryTypeIntrospector introspector : this.introspectors) {
-			if (introspector instanceof Matcher) {
-				if (((Matcher)introspector).match(context.getProperty())) {
-					ArbitraryIntrospectorResult result = introspector.introspect(context);
-					if (!ArbitraryIntrospectorResult.EMPTY.equals(result)) {
-						return result;
-					}
-				}
-			} else {
-				ArbitraryIntrospectorResult result = introspector.introspect(context);
-				if (!ArbitraryIntrospectorResult.EMPTY.equals(result)) {
-					return result;
-				}
+		for (ArbitraryTypeIntrospector introspector : this.introspectorIndex.findAll(context.getProperty())) {
+			ArbitraryIntrospectorResult result = introspector.introspect(context);
+			if (!ArbitraryIntrospectorResult.EMPTY.equals(result)) {
+				return result;
 			}
 		}
 
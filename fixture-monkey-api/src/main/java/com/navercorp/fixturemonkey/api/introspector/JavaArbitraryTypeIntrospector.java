@@ -29,12 +29,11 @@ import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
 import com.navercorp.fixturemonkey.api.generator.ArbitraryGeneratorContext;
-import com.navercorp.fixturemonkey.api.matcher.Matcher;
-import com.navercorp.fixturemonkey.api.property.Property;
+import com.navercorp.fixturemonkey.api.matcher.TypeMatcher;
 import com.navercorp.fixturemonkey.api.type.Types;
 
 @API(since = "0.4.0", status = Status.EXPERIMENTAL)
-public final class JavaArbitraryTypeIntrospector implements ArbitraryTypeIntrospector, Matcher {
+public final class JavaArbitraryTypeIntrospector implements ArbitraryTypeIntrospector, TypeMatcher {
 	private final Map<Class<?>, Function<ArbitraryGeneratorContext, ArbitraryIntrospectorResult>> introspector;
 
 	public JavaArbitraryTypeIntrospector() {
@@ -54,8 +53,7 @@ public final class JavaArbitraryTypeIntrospector implements ArbitraryTypeIntrosp
 	}
 
 	@Override
-	public boolean match(Property property) {
-		Class<?> actualType = Types.getActualType(property.getType());
+	public boolean match(Class<?> actualType) {
 		return this.introspector.containsKey(actualType);
 	}
 
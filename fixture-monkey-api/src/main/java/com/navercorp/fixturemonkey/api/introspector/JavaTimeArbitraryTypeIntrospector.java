@@ -42,12 +42,11 @@ import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
 import com.navercorp.fixturemonkey.api.generator.ArbitraryGeneratorContext;
-import com.navercorp.fixturemonkey.api.matcher.Matcher;
-import com.navercorp.fixturemonkey.api.property.Property;
+import com.navercorp.fixturemonkey.api.matcher.TypeMatcher;
 import com.navercorp.fixturemonkey.api.type.Types;
 
 @API(since = "0.4.0", status = Status.EXPERIMENTAL)
-public final class JavaTimeArbitraryTypeIntrospector implements ArbitraryTypeIntrospector, Matcher {
+public final class JavaTimeArbitraryTypeIntrospector implements ArbitraryTypeIntrospector, TypeMatcher {
 	private final Map<Class<?>, Function<ArbitraryGeneratorContext, ArbitraryIntrospectorResult>> introspector;
 
 	public JavaTimeArbitraryTypeIntrospector() {
@@ -67,8 +66,7 @@ public final class JavaTimeArbitraryTypeIntrospector implements ArbitraryTypeInt
 	}
 
 	@Override
-	public boolean match(Property property) {
-		Class<?> actualType = Types.getActualType(property.getType());
+	public boolean match(Class<?> actualType) {
 		return this.introspector.containsKey(actualType);
 	}
 
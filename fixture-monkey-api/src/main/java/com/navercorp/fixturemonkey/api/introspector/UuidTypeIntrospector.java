@@ -26,15 +26,14 @@ import org.apiguardian.api.API.Status;
 import net.jqwik.api.Arbitraries;
 
 import com.navercorp.fixturemonkey.api.generator.ArbitraryGeneratorContext;
-import com.navercorp.fixturemonkey.api.matcher.Matcher;
 import com.navercorp.fixturemonkey.api.matcher.Matchers;
-import com.navercorp.fixturemonkey.api.property.Property;
+import com.navercorp.fixturemonkey.api.matcher.TypeMatcher;
 
 @API(since = "0.4.0", status = Status.EXPERIMENTAL)
-public final class UuidTypeIntrospector implements ArbitraryTypeIntrospector, Matcher {
+public final class UuidTypeIntrospector implements ArbitraryTypeIntrospector, TypeMatcher {
 	@Override
-	public boolean match(Property property) {
-		return Matchers.UUID_TYPE_MATCHER.match(property);
+	public boolean match(Class<?> actualType) {
+		return Matchers.UUID_TYPE_MATCHER.match(actualType);
 	}
 
 	@Override
@@ -21,11 +21,8 @@ package com.navercorp.fixturemonkey.api.matcher;
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
-import com.navercorp.fixturemonkey.api.property.Property;
-import com.navercorp.fixturemonkey.api.type.Types;
-
 @API(since = "0.4.0", status = Status.EXPERIMENTAL)
-public final class ExactTypeMatcher implements Matcher {
+public final class ExactTypeMatcher implements TypeMatcher {
 	private final Class<?> type;
 
 	public ExactTypeMatcher(Class<?> type) {
@@ -33,7 +30,7 @@ public final class ExactTypeMatcher implements Matcher {
 	}
 
 	@Override
-	public boolean match(Property property) {
-		return this.type == Types.getActualType(property.getType());
+	public boolean match(Class<?> actualType) {
+		return this.type == actualType;
 	}
 }
@@ -0,0 +1,125 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.matcher;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import javax.annotation.Nullable;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+import com.navercorp.fixturemonkey.api.property.Property;
+import com.navercorp.fixturemonkey.api.type.Types;
+
+/**
+ * Finds the matched elements in order without testing every matcher for every property.
+ * A {@link TypeMatcher} is tested once per actual type, the other matchers are tested per property.
+ * An element without a matcher matches every property.
+ * A property without an actual type, such as a wildcard, does not match any {@link TypeMatcher}.
+ */
+@API(since = "0.4.0", status = Status.EXPERIMENTAL)
+public final class MatcherIndex<T> {
+	private final List<Candidate<T>> candidates;
+	private final List<Candidate<T>> nonTypeCandidates;
+	private final Map<Class<?>, List<Candidate<T>>> candidatesByType = new ConcurrentHashMap<>();
+
+	public MatcherIndex(List<T> elements, Function<T, Matcher> matcherExtractor) {
+		List<Candidate<T>> candidates = new ArrayList<>(elements.size());
+		List<Candidate<T>> nonTypeCandidates = new ArrayList<>(elements.size());
+		for (T element : elements) {
+			Candidate<T> candidate = new Candidate<>(element, matcherExtractor.apply(element));
+			candidates.add(candidate);
+			if (!(candidate.matcher instanceof TypeMatcher)) {
+				nonTypeCandidates.add(candidate);
+			}
+		}
+		this.candidates = Collections.unmodifiableList(candidates);
+		this.nonTypeCandidates = Collections.unmodifiableList(nonTypeCandidates);
+	}
+
+	public static <T> MatcherIndex<MatcherOperator<T>> of(List<MatcherOperator<T>> matcherOperators) {
+		return new MatcherIndex<>(matcherOperators, MatcherOperator::getMatcher);
+	}
+
+	@Nullable
+	public T findFirst(Property property) {
+		for (Candidate<T> candidate : getCandidates(property)) {
+			if (candidate.match(property)) {
+				return candidate.element;
+			}
+		}
+		return null;
+	}
+
+	public List<T> findAll(Property property) {
+		List<T> elements = new ArrayList<>();
+		for (Candidate<T> candidate : getCandidates(property)) {
+			if (candidate.match(property)) {
+				elements.add(candidate.element);
+			}
+		}
+		return elements;
+	}
+
+	private List<Candidate<T>> getCandidates(Property property) {
+		Class<?> actualType;
+		try {
+			actualType = Types.getActualType(property.getType());
+		} catch (UnsupportedOperationException ex) {
+			// no actual type, so no TypeMatcher matches and the other matchers are tested
+			return nonTypeCandidates;
+		}
+		return candidatesByType.computeIfAbsent(actualType, this::filterCandidates);
+	}
+
+	private List<Candidate<T>> filterCandidates(Class<?> actualType) {
+		List<Candidate<T>> filtered = new ArrayList<>();
+		for (Candidate<T> candidate : candidates) {
+			if (candidate.matcher instanceof TypeMatcher) {
+				if (((TypeMatcher)candidate.matcher).match(actualType)) {
+					filtered.add(new Candidate<>(candidate.element, null));
+				}
+			} else {
+				filtered.add(candidate);
+			}
+		}
+		return filtered;
+	}
+
+	private static final class Candidate<T> {
+		private final T element;
+		@Nullable
+		private final Matcher matcher;
+
+		private Candidate(T element, @Nullable Matcher matcher) {
+			this.element = element;
+			this.matcher = matcher;
+		}
+
+		private boolean match(Property property) {
+			return matcher == null || matcher.match(property);
+		}
+	}
+}
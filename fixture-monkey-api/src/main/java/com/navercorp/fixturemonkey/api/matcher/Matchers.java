@@ -23,13 +23,10 @@ import java.util.UUID;
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
-import com.navercorp.fixturemonkey.api.type.Types;
-
 @API(since = "0.4.0", status = Status.EXPERIMENTAL)
 public final class Matchers {
 
-	public static final Matcher ENUM_TYPE_MATCHER = property -> Types.getActualType(property.getType()).isEnum();
-	public static final Matcher BOOLEAN_TYPE_MATCHER = property ->
-		property.getType() == boolean.class || property.getType() == Boolean.class;
-	public static final Matcher UUID_TYPE_MATCHER = new ExactTypeMatcher(UUID.class);
+	public static final TypeMatcher ENUM_TYPE_MATCHER = Class::isEnum;
+	public static final TypeMatcher BOOLEAN_TYPE_MATCHER = type -> type == boolean.class || type == Boolean.class;
+	public static final TypeMatcher UUID_TYPE_MATCHER = new ExactTypeMatcher(UUID.class);
 }
@@ -24,13 +24,16 @@ import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
 import com.navercorp.fixturemonkey.api.generator.ArbitraryGenerator;
+import com.navercorp.fixturemonkey.api.matcher.MatcherIndex;
 import com.navercorp.fixturemonkey.api.matcher.MatcherOperator;
+import com.navercorp.fixturemonkey.api.property.Property;
 import com.navercorp.fixturemonkey.api.property.PropertyNameResolver;
 
 @API(since = "0.4.0", status = Status.EXPERIMENTAL)
 public final class GenerateOptions {
 	private final List<MatcherOperator<ArbitraryGenerator>> arbitraryGenerators;
 	private final List<MatcherOperator<PropertyNameResolver>> propertyNameResolvers;
+	private final MatcherIndex<MatcherOperator<PropertyNameResolver>> propertyNameResolverIndex;
 	private final double nullInject;
 	private final boolean nullableContainer;
 	private final boolean defaultNotNull;
@@ -44,6 +47,7 @@ public final class GenerateOptions {
 	) {
 		this.arbitraryGenerators = arbitraryGenerators;
 		this.propertyNameResolvers = propertyNameResolvers;
+		this.propertyNameResolverIndex = MatcherIndex.of(propertyNameResolvers);
 		this.nullInject = nullInject;
 		this.nullableContainer = nullableContainer;
 		this.defaultNotNull = defaultNotNull;
@@ -57,6 +61,11 @@ public final class GenerateOptions {
 		return this.propertyNameResolvers;
 	}
 
+	public PropertyNameResolver getPropertyNameResolver(Property property) {
+		MatcherOperator<PropertyNameResolver> matched = this.propertyNameResolverIndex.findFirst(property);
+		return matched != null ? matched.getOperator() : PropertyNameResolver.IDENTITY;
+	}
+
 	public double getNullInject() {
 		return this.nullInject;
 	}
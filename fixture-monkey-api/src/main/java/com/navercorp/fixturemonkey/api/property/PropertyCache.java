@@ -40,6 +40,7 @@ import org.junit.platform.commons.util.ReflectionUtils.HierarchyTraversalMode;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.navercorp.fixturemonkey.api.type.AnnotatedTypeKey;
 import com.navercorp.fixturemonkey.api.type.Types;
 
 @API(since = "0.4.0", status = Status.EXPERIMENTAL)
@@ -49,12 +50,28 @@ public final class PropertyCache {
 	private static final Map<Class<?>, Map<Method, PropertyDescriptor>> PROPERTY_DESCRIPTORS =
 		new ConcurrentHashMap<>();
 	private static final Map<Class<?>, Map<String, Field>> FIELDS = new ConcurrentHashMap<>();
+	private static final Map<AnnotatedTypeKey, ResolvedProperties> RESOLVED_PROPERTIES = new ConcurrentHashMap<>();
 
 	public static RootProperty getRootProperty(AnnotatedType annotatedType) {
 		return new RootProperty(annotatedType);
 	}
 
 	public static List<Property> getProperties(AnnotatedType annotatedType) {
+		return getResolvedProperties(annotatedType).properties;
+	}
+
+	public static Optional<Property> getProperty(AnnotatedType annotatedType, String name) {
+		return Optional.ofNullable(getResolvedProperties(annotatedType).propertiesByName.get(name));
+	}
+
+	private static ResolvedProperties getResolvedProperties(AnnotatedType annotatedType) {
+		return RESOLVED_PROPERTIES.computeIfAbsent(
+			AnnotatedTypeKey.of(annotatedType),
+			key -> new ResolvedProperties(resolveProperties(annotatedType))
+		);
+	}
+
+	private static List<Property> resolveProperties(AnnotatedType annotatedType) {
 		Map<String, List<Property>> propertiesMap = new HashMap<>();
 
 		Class<?> actualType = Types.getActualType(annotatedType.getType());
@@ -97,12 +114,6 @@ public final class PropertyCache {
 		return Collections.unmodifiableList(result);
 	}
 
-	public static Optional<Property> getProperty(AnnotatedType annotatedType, String name) {
-		return getProperties(annotatedType).stream()
-			.filter(it -> it.getName().equals(name))
-			.findFirst();
-	}
-
 	public static Map<String, Field> getFields(Class<?> clazz) {
 		return FIELDS.computeIfAbsent(clazz, type -> {
 			Map<String, Field> result = new ConcurrentHashMap<>();
@@ -134,4 +145,18 @@ public final class PropertyCache {
 			return result;
 		});
 	}
+
+	private static final class ResolvedProperties {
+		private final List<Property> properties;
+		private final Map<String, Property> propertiesByName;
+
+		private ResolvedProperties(List<Property> properties) {
+			this.properties = properties;
+			Map<String, Property> propertiesByName = new HashMap<>();
+			for (Property property : properties) {
+				propertiesByName.putIfAbsent(property.getName(), property);
+			}
+			this.propertiesByName = Collections.unmodifiableMap(propertiesByName);
+		}
+	}
 }
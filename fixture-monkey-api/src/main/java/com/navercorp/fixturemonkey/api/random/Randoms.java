@@ -39,6 +39,7 @@ public class Randoms {
 	private static final boolean USE_JQWIK_ENGINE;
 	private static final Supplier<Random> RNG = ThreadLocalRandom::current;
 	private static final ThreadLocal<Random> CURRENT = ThreadLocal.withInitial(Randoms::newRandom);
+	private static final ThreadLocal<Random> SCOPED = new ThreadLocal<>();
 
 	static {
 		boolean useJqwikEngine;
@@ -87,6 +88,11 @@ public class Randoms {
 	}
 
 	public static Random current() {
+		Random scoped = SCOPED.get();
+		if (scoped != null) {
+			return scoped;
+		}
+
 		return USE_JQWIK_ENGINE
 			? SourceOfRandomness.current()
 			: CURRENT.get();
@@ -96,6 +102,24 @@ public class Randoms {
 		return current().nextInt(bound);
 	}
 
+	/**
+	 * Makes {@link #current()} return the given random while the supplier runs on this thread.
+	 * Unlike {@link #create(String)}, the current random of the thread is restored after.
+	 */
+	public static <T> T withRandom(Random random, Supplier<T> supplier) {
+		Random previous = SCOPED.get();
+		SCOPED.set(random);
+		try {
+			return supplier.get();
+		} finally {
+			if (previous == null) {
+				SCOPED.remove();
+			} else {
+				SCOPED.set(previous);
+			}
+		}
+	}
+
 	/**
 	 * A faster but not thread safe implementation of {@linkplain java.util.Random}.
 	 * It also has a period of 2^n - 1 and better statistical randomness.
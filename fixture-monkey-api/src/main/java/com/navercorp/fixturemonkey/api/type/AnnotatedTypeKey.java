@@ -0,0 +1,90 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.type;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedArrayType;
+import java.lang.reflect.AnnotatedParameterizedType;
+import java.lang.reflect.AnnotatedType;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * Compares the annotated types by their structures,
+ * an AnnotatedType implementation does not always implement equals and hashCode.
+ */
+@API(since = "0.4.0", status = Status.EXPERIMENTAL)
+public final class AnnotatedTypeKey {
+	private final Type type;
+	private final List<Annotation> annotations;
+	private final List<AnnotatedTypeKey> typeArguments;
+
+	private AnnotatedTypeKey(Type type, List<Annotation> annotations, List<AnnotatedTypeKey> typeArguments) {
+		this.type = type;
+		this.annotations = annotations;
+		this.typeArguments = typeArguments;
+	}
+
+	public static AnnotatedTypeKey of(AnnotatedType annotatedType) {
+		Type type = annotatedType.getType();
+		List<AnnotatedTypeKey> typeArguments = Collections.emptyList();
+		if (annotatedType instanceof AnnotatedParameterizedType && type instanceof ParameterizedType) {
+			AnnotatedType[] annotatedTypeArguments =
+				((AnnotatedParameterizedType)annotatedType).getAnnotatedActualTypeArguments();
+			typeArguments = new ArrayList<>(annotatedTypeArguments.length);
+			for (AnnotatedType annotatedTypeArgument : annotatedTypeArguments) {
+				typeArguments.add(of(annotatedTypeArgument));
+			}
+			type = ((ParameterizedType)type).getRawType();
+		} else if (annotatedType instanceof AnnotatedArrayType && !(type instanceof Class)) {
+			AnnotatedType componentType = ((AnnotatedArrayType)annotatedType).getAnnotatedGenericComponentType();
+			typeArguments = Collections.singletonList(of(componentType));
+			type = GenericArrayType.class;
+		}
+		return new AnnotatedTypeKey(type, Arrays.asList(annotatedType.getAnnotations()), typeArguments);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null || getClass() != obj.getClass()) {
+			return false;
+		}
+		AnnotatedTypeKey that = (AnnotatedTypeKey)obj;
+		return type.equals(that.type)
+			&& annotations.equals(that.annotations)
+			&& typeArguments.equals(that.typeArguments);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(type, annotations, typeArguments);
+	}
+}
@@ -25,6 +25,7 @@ import java.lang.reflect.AnnotatedType;
 import java.lang.reflect.AnnotatedWildcardType;
 import java.lang.reflect.Field;
 import java.lang.reflect.GenericDeclaration;
+import java.lang.reflect.Member;
 import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
@@ -33,12 +34,19 @@ import java.lang.reflect.WildcardType;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.Nullable;
 
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
 @API(since = "0.4.0", status = Status.EXPERIMENTAL)
 public class Types {
+	private static final Map<MemberTypeKey, AnnotatedType> RESOLVED_MEMBER_TYPES = new ConcurrentHashMap<>();
+
 	public static Class<?> getActualType(AnnotatedType annotatedType) {
 		return getActualType(annotatedType.getType());
 	}
@@ -84,7 +92,7 @@ public class Types {
 		}
 
 		if (AnnotatedWildcardType.class.isAssignableFrom(annotatedType.getClass())) {
-			AnnotatedWildcardType wildcardType = (AnnotatedWildcardType)type;
+			AnnotatedWildcardType wildcardType = (AnnotatedWildcardType)annotatedType;
 			return getGenericsTypes(wildcardType.getAnnotatedUpperBounds()[0]);
 		}
 
@@ -115,66 +123,86 @@ public class Types {
 		);
 	}
 
+	/**
+	 * The resolved type is cached per the structure of the owner type and the field, the same instance is returned.
+	 */
 	public static AnnotatedType resolveWithTypeReferenceGenerics(AnnotatedType ownerType, Field field) {
+		return resolveMemberType(ownerType, field, field.getGenericType(), field.getAnnotatedType());
+	}
+
+	/**
+	 * The resolved type is cached per the structure of the owner type and the read method,
+	 * the same instance is returned.
+	 */
+	public static AnnotatedType resolveWithTypeReferenceGenerics(
+		AnnotatedType ownerType,
+		PropertyDescriptor propertyDescriptor
+	) {
+		Method readMethod = propertyDescriptor.getReadMethod();
+		return resolveMemberType(
+			ownerType,
+			readMethod,
+			readMethod.getGenericReturnType(),
+			readMethod.getAnnotatedReturnType()
+		);
+	}
+
+	private static AnnotatedType resolveMemberType(
+		AnnotatedType ownerType,
+		Member member,
+		Type memberGenericType,
+		AnnotatedType memberAnnotatedType
+	) {
+		boolean typeVariable = TypeVariable.class.isAssignableFrom(memberAnnotatedType.getType().getClass());
 		if (!(ownerType instanceof AnnotatedParameterizedType)) {
-			AnnotatedType fieldAnnotatedType = field.getAnnotatedType();
-			if (TypeVariable.class.isAssignableFrom(fieldAnnotatedType.getType().getClass())) {
-				return new AnnotatedType() {
-					@Override
-					public Type getType() {
-						return Object.class;
-					}
-
-					@Override
-					public <T extends Annotation> T getAnnotation(Class<T> annotationClass) {
-						return fieldAnnotatedType.getAnnotation(annotationClass);
-					}
-
-					@Override
-					public Annotation[] getAnnotations() {
-						return fieldAnnotatedType.getAnnotations();
-					}
-
-					@Override
-					public Annotation[] getDeclaredAnnotations() {
-						return fieldAnnotatedType.getDeclaredAnnotations();
-					}
-				};
-			} else {
-				return fieldAnnotatedType;
+			if (!typeVariable) {
+				return memberAnnotatedType;
 			}
+			return RESOLVED_MEMBER_TYPES.computeIfAbsent(
+				new MemberTypeKey(null, member),
+				key -> new ResolvedAnnotatedType(Object.class, memberAnnotatedType)
+			);
 		}
 
-		AnnotatedParameterizedType ownerAnnotatedParameterizedType = (AnnotatedParameterizedType)ownerType;
-		AnnotatedType[] ownerGenericsTypes = ownerAnnotatedParameterizedType.getAnnotatedActualTypeArguments();
+		return RESOLVED_MEMBER_TYPES.computeIfAbsent(
+			new MemberTypeKey(AnnotatedTypeKey.of(ownerType), member),
+			key -> resolveGenerics((AnnotatedParameterizedType)ownerType, memberGenericType, memberAnnotatedType)
+		);
+	}
+
+	private static AnnotatedType resolveGenerics(
+		AnnotatedParameterizedType ownerType,
+		Type memberGenericType,
+		AnnotatedType memberAnnotatedType
+	) {
+		AnnotatedType[] ownerGenericsTypes = ownerType.getAnnotatedActualTypeArguments();
 		if (ownerGenericsTypes == null || ownerGenericsTypes.length == 0) {
-			return field.getAnnotatedType();
+			return memberAnnotatedType;
 		}
 
-		ParameterizedType parameterizedType = (ParameterizedType)ownerAnnotatedParameterizedType.getType();
+		ParameterizedType parameterizedType = (ParameterizedType)ownerType.getType();
 		Class<?> ownerActualType = Types.getActualType(parameterizedType.getRawType());
 		List<Type> ownerTypeVariableParameters = Arrays.asList(ownerActualType.getTypeParameters());
 
-		Type fieldGenericsType = field.getGenericType();
-		if (TypeVariable.class.isAssignableFrom(fieldGenericsType.getClass())) {
-			int index = ownerTypeVariableParameters.indexOf(fieldGenericsType);
+		if (TypeVariable.class.isAssignableFrom(memberGenericType.getClass())) {
+			int index = ownerTypeVariableParameters.indexOf(memberGenericType);
 			return ownerGenericsTypes[index];
 		}
 
-		if (!(fieldGenericsType instanceof ParameterizedType)) {
-			return field.getAnnotatedType();
+		if (!(memberGenericType instanceof ParameterizedType)) {
+			return memberAnnotatedType;
 		}
 
-		AnnotatedParameterizedType fieldParameterizedType = (AnnotatedParameterizedType)field.getAnnotatedType();
-		AnnotatedType[] fieldGenericsTypes = fieldParameterizedType.getAnnotatedActualTypeArguments();
-		if (fieldGenericsTypes == null || fieldGenericsTypes.length == 0) {
-			return fieldParameterizedType;
+		AnnotatedParameterizedType memberParameterizedType = (AnnotatedParameterizedType)memberAnnotatedType;
+		AnnotatedType[] memberGenericsTypes = memberParameterizedType.getAnnotatedActualTypeArguments();
+		if (memberGenericsTypes == null || memberGenericsTypes.length == 0) {
+			return memberParameterizedType;
 		}
 
-		AnnotatedType[] resolvedGenericsTypes = new AnnotatedType[fieldGenericsTypes.length];
-		Type[] resolvedTypes = new Type[fieldGenericsTypes.length];
-		for (int i = 0; i < fieldGenericsTypes.length; i++) {
-			AnnotatedType generics = fieldGenericsTypes[i];
+		AnnotatedType[] resolvedGenericsTypes = new AnnotatedType[memberGenericsTypes.length];
+		Type[] resolvedTypes = new Type[memberGenericsTypes.length];
+		for (int i = 0; i < memberGenericsTypes.length; i++) {
+			AnnotatedType generics = memberGenericsTypes[i];
 			if (generics instanceof AnnotatedParameterizedType || generics.getType().getClass() == Class.class) {
 				resolvedGenericsTypes[i] = generics;
 				resolvedTypes[i] = generics.getType();
@@ -190,189 +218,230 @@ public class Types {
 			}
 		}
 
-		ParameterizedType type = (ParameterizedType)fieldParameterizedType.getType();
-		Type resolveType = new ParameterizedType() {
-			@Override
-			public Type[] getActualTypeArguments() {
-				return resolvedTypes;
-			}
+		ParameterizedType type = (ParameterizedType)memberParameterizedType.getType();
+		return new ResolvedAnnotatedParameterizedType(
+			new ResolvedParameterizedType(resolvedTypes, type.getRawType(), type.getOwnerType()),
+			resolvedGenericsTypes,
+			memberParameterizedType
+		);
+	}
 
-			@Override
-			public Type getRawType() {
-				return type.getRawType();
-			}
+	private static final class MemberTypeKey {
+		@Nullable
+		private final AnnotatedTypeKey ownerTypeKey;
+		private final Member member;
 
-			@Override
-			public Type getOwnerType() {
-				return type.getOwnerType();
-			}
-		};
+		private MemberTypeKey(@Nullable AnnotatedTypeKey ownerTypeKey, Member member) {
+			this.ownerTypeKey = ownerTypeKey;
+			this.member = member;
+		}
 
-		return new AnnotatedParameterizedType() {
-			@Override
-			public AnnotatedType[] getAnnotatedActualTypeArguments() {
-				return resolvedGenericsTypes;
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
 			}
-
-			// For compatibility with JDK >= 9. A breaking change in the JDK :-(
-			// @Override
-			public AnnotatedType getAnnotatedOwnerType() {
-				// TODO: Return annotatedType.getAnnotatedOwnerType() as soon as Java >= 9 is being used
-				return null;
+			if (obj == null || getClass() != obj.getClass()) {
+				return false;
 			}
+			MemberTypeKey that = (MemberTypeKey)obj;
+			return Objects.equals(ownerTypeKey, that.ownerTypeKey) && member.equals(that.member);
+		}
 
-			@Override
-			public Type getType() {
-				return resolveType;
-			}
+		@Override
+		public int hashCode() {
+			return Objects.hash(ownerTypeKey, member);
+		}
+	}
 
-			@Override
-			public <T extends Annotation> T getAnnotation(Class<T> annotationClass) {
-				return fieldParameterizedType.getAnnotation(annotationClass);
-			}
+	/**
+	 * Equals only to the same implementation by its structure,
+	 * the JDK implementations do not compare AnnotatedTypes by their structures.
+	 */
+	private static final class ResolvedAnnotatedType implements AnnotatedType {
+		private final Type type;
+		private final AnnotatedType annotationSource;
+		@Nullable
+		private volatile AnnotatedTypeKey key;
+
+		private ResolvedAnnotatedType(Type type, AnnotatedType annotationSource) {
+			this.type = type;
+			this.annotationSource = annotationSource;
+		}
+
+		@Override
+		public Type getType() {
+			return type;
+		}
+
+		@Override
+		public <T extends Annotation> T getAnnotation(Class<T> annotationClass) {
+			return annotationSource.getAnnotation(annotationClass);
+		}
 
-			@Override
-			public Annotation[] getAnnotations() {
-				return fieldParameterizedType.getAnnotations();
+		@Override
+		public Annotation[] getAnnotations() {
+			return annotationSource.getAnnotations();
+		}
+
+		@Override
+		public Annotation[] getDeclaredAnnotations() {
+			return annotationSource.getDeclaredAnnotations();
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (obj == null || getClass() != obj.getClass()) {
+				return false;
 			}
+			return getKey().equals(((ResolvedAnnotatedType)obj).getKey());
+		}
+
+		@Override
+		public int hashCode() {
+			return getKey().hashCode();
+		}
 
-			@Override
-			public Annotation[] getDeclaredAnnotations() {
-				return fieldParameterizedType.getDeclaredAnnotations();
+		private AnnotatedTypeKey getKey() {
+			AnnotatedTypeKey key = this.key;
+			if (key == null) {
+				key = AnnotatedTypeKey.of(this);
+				this.key = key;
 			}
-		};
+			return key;
+		}
 	}
 
-	public static AnnotatedType resolveWithTypeReferenceGenerics(
-		AnnotatedType ownerType,
-		PropertyDescriptor propertyDescriptor
-	) {
-		if (!(ownerType instanceof AnnotatedParameterizedType)) {
-			AnnotatedType propertyAnnotatedType = propertyDescriptor.getReadMethod().getAnnotatedReturnType();
-			if (TypeVariable.class.isAssignableFrom(propertyAnnotatedType.getType().getClass())) {
-				return new AnnotatedType() {
-					@Override
-					public Type getType() {
-						return Object.class;
-					}
-
-					@Override
-					public <T extends Annotation> T getAnnotation(Class<T> annotationClass) {
-						return propertyAnnotatedType.getAnnotation(annotationClass);
-					}
-
-					@Override
-					public Annotation[] getAnnotations() {
-						return propertyAnnotatedType.getAnnotations();
-					}
-
-					@Override
-					public Annotation[] getDeclaredAnnotations() {
-						return propertyAnnotatedType.getDeclaredAnnotations();
-					}
-				};
-			} else {
-				return propertyAnnotatedType;
-			}
+	/**
+	 * Equals only to the same implementation by its structure,
+	 * the JDK implementations do not compare AnnotatedTypes by their structures.
+	 */
+	private static final class ResolvedAnnotatedParameterizedType implements AnnotatedParameterizedType {
+		private final ParameterizedType type;
+		private final AnnotatedType[] annotatedActualTypeArguments;
+		private final AnnotatedType annotationSource;
+		@Nullable
+		private volatile AnnotatedTypeKey key;
+
+		private ResolvedAnnotatedParameterizedType(
+			ParameterizedType type,
+			AnnotatedType[] annotatedActualTypeArguments,
+			AnnotatedType annotationSource
+		) {
+			this.type = type;
+			this.annotatedActualTypeArguments = annotatedActualTypeArguments;
+			this.annotationSource = annotationSource;
 		}
 
-		AnnotatedParameterizedType ownerAnnotatedParameterizedType = (AnnotatedParameterizedType)ownerType;
-		AnnotatedType[] ownerGenericsTypes = ownerAnnotatedParameterizedType.getAnnotatedActualTypeArguments();
-		if (ownerGenericsTypes == null || ownerGenericsTypes.length == 0) {
-			return propertyDescriptor.getReadMethod().getAnnotatedReturnType();
+		@Override
+		public AnnotatedType[] getAnnotatedActualTypeArguments() {
+			// cached instances are shared, so every caller gets a copy as the JDK does
+			return annotatedActualTypeArguments.clone();
 		}
 
-		ParameterizedType parameterizedType = (ParameterizedType)ownerAnnotatedParameterizedType.getType();
-		Class<?> ownerActualType = Types.getActualType(parameterizedType.getRawType());
-		List<Type> ownerTypeVariableParameters = Arrays.asList(ownerActualType.getTypeParameters());
+		// For compatibility with JDK >= 9. A breaking change in the JDK :-(
+		// @Override
+		public AnnotatedType getAnnotatedOwnerType() {
+			// TODO: Return annotatedType.getAnnotatedOwnerType() as soon as Java >= 9 is being used
+			return null;
+		}
 
-		Method readMethod = propertyDescriptor.getReadMethod();
-		Type methodGenericsType = readMethod.getGenericReturnType();
-		if (TypeVariable.class.isAssignableFrom(methodGenericsType.getClass())) {
-			int index = ownerTypeVariableParameters.indexOf(methodGenericsType);
-			return ownerGenericsTypes[index];
+		@Override
+		public Type getType() {
+			return type;
 		}
 
-		if (!(methodGenericsType instanceof ParameterizedType)) {
-			return propertyDescriptor.getReadMethod().getAnnotatedReturnType();
+		@Override
+		public <T extends Annotation> T getAnnotation(Class<T> annotationClass) {
+			return annotationSource.getAnnotation(annotationClass);
 		}
 
-		AnnotatedParameterizedType propertyParameterizedType =
-			(AnnotatedParameterizedType)propertyDescriptor.getReadMethod().getAnnotatedReturnType();
-		AnnotatedType[] propertyGenericsTypes = propertyParameterizedType.getAnnotatedActualTypeArguments();
-		if (propertyGenericsTypes == null || propertyGenericsTypes.length == 0) {
-			return propertyParameterizedType;
+		@Override
+		public Annotation[] getAnnotations() {
+			return annotationSource.getAnnotations();
 		}
 
-		AnnotatedType[] resolvedGenericsTypes = new AnnotatedType[propertyGenericsTypes.length];
-		Type[] resolvedTypes = new Type[propertyGenericsTypes.length];
-		for (int i = 0; i < propertyGenericsTypes.length; i++) {
-			AnnotatedType generics = propertyGenericsTypes[i];
-			if (generics instanceof AnnotatedParameterizedType || generics.getType().getClass() == Class.class) {
-				resolvedGenericsTypes[i] = generics;
-				resolvedTypes[i] = generics.getType();
-				continue;
-			}
+		@Override
+		public Annotation[] getDeclaredAnnotations() {
+			return annotationSource.getDeclaredAnnotations();
+		}
 
-			if (TypeVariable.class.isAssignableFrom(generics.getType().getClass())) {
-				TypeVariable<?> typeVariable = (TypeVariable<?>)generics.getType();
-				int index = ownerTypeVariableParameters.indexOf(typeVariable);
-				generics = ownerGenericsTypes[index];
-				resolvedGenericsTypes[i] = generics;
-				resolvedTypes[i] = generics.getType();
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (obj == null || getClass() != obj.getClass()) {
+				return false;
 			}
+			return getKey().equals(((ResolvedAnnotatedParameterizedType)obj).getKey());
 		}
 
-		ParameterizedType type = (ParameterizedType)propertyParameterizedType.getType();
-		Type resolveType = new ParameterizedType() {
-			@Override
-			public Type[] getActualTypeArguments() {
-				return resolvedTypes;
-			}
+		@Override
+		public int hashCode() {
+			return getKey().hashCode();
+		}
 
-			@Override
-			public Type getRawType() {
-				return type.getRawType();
+		private AnnotatedTypeKey getKey() {
+			AnnotatedTypeKey key = this.key;
+			if (key == null) {
+				key = AnnotatedTypeKey.of(this);
+				this.key = key;
 			}
+			return key;
+		}
+	}
 
-			@Override
-			public Type getOwnerType() {
-				return type.getOwnerType();
-			}
-		};
+	/**
+	 * Equals to the other ParameterizedType implementations, as the JDK implementation does.
+	 */
+	private static final class ResolvedParameterizedType implements ParameterizedType {
+		private final Type[] actualTypeArguments;
+		private final Type rawType;
+		@Nullable
+		private final Type ownerType;
+
+		private ResolvedParameterizedType(Type[] actualTypeArguments, Type rawType, @Nullable Type ownerType) {
+			this.actualTypeArguments = actualTypeArguments;
+			this.rawType = rawType;
+			this.ownerType = ownerType;
+		}
 
-		return new AnnotatedParameterizedType() {
-			@Override
-			public AnnotatedType[] getAnnotatedActualTypeArguments() {
-				return resolvedGenericsTypes;
-			}
+		@Override
+		public Type[] getActualTypeArguments() {
+			return actualTypeArguments.clone();
+		}
 
-			// For compatibility with JDK >= 9. A breaking change in the JDK :-(
-			// @Override
-			public AnnotatedType getAnnotatedOwnerType() {
-				// TODO: Return annotatedType.getAnnotatedOwnerType() as soon as Java >= 9 is being used
-				return null;
-			}
+		@Override
+		public Type getRawType() {
+			return rawType;
+		}
 
-			@Override
-			public Type getType() {
-				return resolveType;
-			}
+		@Override
+		public Type getOwnerType() {
+			return ownerType;
+		}
 
-			@Override
-			public <T extends Annotation> T getAnnotation(Class<T> annotationClass) {
-				return propertyParameterizedType.getAnnotation(annotationClass);
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
 			}
-
-			@Override
-			public Annotation[] getAnnotations() {
-				return propertyParameterizedType.getAnnotations();
+			if (!(obj instanceof ParameterizedType)) {
+				return false;
 			}
+			ParameterizedType that = (ParameterizedType)obj;
+			return Objects.equals(rawType, that.getRawType())
+				&& Objects.equals(ownerType, that.getOwnerType())
+				&& Arrays.equals(actualTypeArguments, that.getActualTypeArguments());
+		}
 
-			@Override
-			public Annotation[] getDeclaredAnnotations() {
-				return propertyParameterizedType.getDeclaredAnnotations();
-			}
-		};
+		@Override
+		public int hashCode() {
+			return Arrays.hashCode(actualTypeArguments) ^ Objects.hashCode(ownerType) ^ Objects.hashCode(rawType);
+		}
 	}
 }
@@ -0,0 +1,49 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.generator;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+
+class RegexGeneratorTest {
+	@Test
+	void toFlags() {
+		// when
+		int actual = RegexGenerator.toFlags(Flag.CASE_INSENSITIVE, Flag.MULTILINE);
+
+		then(actual).isEqualTo(Pattern.CASE_INSENSITIVE | Pattern.MULTILINE);
+	}
+
+	@Test
+	void toFlagsEmpty() {
+		// when
+		int actual = RegexGenerator.toFlags();
+
+		then(actual).isZero();
+	}
+
+	// the same names as Pattern.Flag of Bean Validation
+	enum Flag {
+		CASE_INSENSITIVE,
+		MULTILINE
+	}
+}
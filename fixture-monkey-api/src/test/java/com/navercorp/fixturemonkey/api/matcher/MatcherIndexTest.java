@@ -0,0 +1,84 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.api.matcher;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.lang.reflect.AnnotatedParameterizedType;
+import java.lang.reflect.AnnotatedType;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.navercorp.fixturemonkey.api.property.Property;
+import com.navercorp.fixturemonkey.api.property.PropertyCache;
+import com.navercorp.fixturemonkey.api.property.RootProperty;
+import com.navercorp.fixturemonkey.api.type.TypeReference;
+
+class MatcherIndexTest {
+	private static final TypeReference<TypeMatcherSpec> TYPE_REFERENCE = new TypeReference<TypeMatcherSpec>() {
+	};
+
+	private static final List<MatcherOperator<String>> MATCHER_OPERATORS = Arrays.asList(
+		new MatcherOperator<>(property -> property.getName().equals("inherited"), "name"),
+		new MatcherOperator<>(new ExactTypeMatcher(String.class), "string"),
+		new MatcherOperator<>(property -> true, "any")
+	);
+
+	@Test
+	void findFirstInOrder() {
+		// given
+		MatcherIndex<MatcherOperator<String>> sut = MatcherIndex.of(MATCHER_OPERATORS);
+		Property str = PropertyCache.getProperty(TYPE_REFERENCE.getAnnotatedType(), "str").get();
+		Property inherited = PropertyCache.getProperty(TYPE_REFERENCE.getAnnotatedType(), "inherited").get();
+
+		// when
+		MatcherOperator<String> actual = sut.findFirst(str);
+
+		then(actual.getOperator()).isEqualTo("string");
+		then(sut.findFirst(inherited).getOperator()).isEqualTo("name");
+	}
+
+	@Test
+	void findAllInOrder() {
+		// given
+		MatcherIndex<MatcherOperator<String>> sut = MatcherIndex.of(MATCHER_OPERATORS);
+		Property str = PropertyCache.getProperty(TYPE_REFERENCE.getAnnotatedType(), "str").get();
+
+		// when
+		List<MatcherOperator<String>> actual = sut.findAll(str);
+
+		then(actual).extracting(MatcherOperator::getOperator).containsExactly("string", "any");
+	}
+
+	@Test
+	void findAllWithoutActualTypeSkipsTypeMatcher() {
+		// given
+		MatcherIndex<MatcherOperator<String>> sut = MatcherIndex.of(MATCHER_OPERATORS);
+		AnnotatedType wildcardType = ((AnnotatedParameterizedType)new TypeReference<List<?>>() {
+		}.getAnnotatedType()).getAnnotatedActualTypeArguments()[0];
+		Property wildcard = new RootProperty(wildcardType);
+
+		// when
+		List<MatcherOperator<String>> actual = sut.findAll(wildcard);
+
+		then(actual).extracting(MatcherOperator::getOperator).containsExactly("any");
+	}
+}
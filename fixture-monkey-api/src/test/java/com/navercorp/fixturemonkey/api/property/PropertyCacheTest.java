@@ -154,6 +154,38 @@ class PropertyCacheTest {
 		then(actual).isNotPresent();
 	}
 
+	@Test
+	void getPropertiesOfSameAnnotatedTypeReturnsCached() {
+		// given
+		TypeReference<GenericSample<String>> typeReference = new TypeReference<GenericSample<String>>() {
+		};
+		TypeReference<GenericSample<String>> otherTypeReference = new TypeReference<GenericSample<String>>() {
+		};
+
+		// when
+		List<Property> actual = PropertyCache.getProperties(typeReference.getAnnotatedType());
+
+		then(actual).isSameAs(PropertyCache.getProperties(otherTypeReference.getAnnotatedType()));
+	}
+
+	@Test
+	void getPropertiesOfDifferentGenericsNotShared() {
+		// given
+		TypeReference<GenericSample<String>> typeReference = new TypeReference<GenericSample<String>>() {
+		};
+		TypeReference<GenericSample<Integer>> otherTypeReference = new TypeReference<GenericSample<Integer>>() {
+		};
+
+		// when
+		Optional<Property> actual = PropertyCache.getProperty(typeReference.getAnnotatedType(), "name");
+
+		Optional<Property> other = PropertyCache.getProperty(otherTypeReference.getAnnotatedType(), "name");
+		then(actual).isPresent();
+		then(other).isPresent();
+		then(actual.get().getType()).isEqualTo(String.class);
+		then(other.get().getType()).isEqualTo(Integer.class);
+	}
+
 	@Test
 	void getFields() {
 		Map<String, Field> actual = PropertyCache.getFields(PropertyValue.class);
@@ -270,6 +270,50 @@ class TypesTest {
 		then(parameterizedType.getAnnotatedActualTypeArguments()[0].getType()).isEqualTo(String.class);
 	}
 
+	@Test
+	void resolveWithTypeReferenceGenericsReturnsCanonicalType() {
+		// given
+		TypeReference<GenericSample<String>> typeReference = new TypeReference<GenericSample<String>>() {
+		};
+		TypeReference<GenericSample<String>> otherTypeReference = new TypeReference<GenericSample<String>>() {
+		};
+		TypeReference<List<String>> listTypeReference = new TypeReference<List<String>>() {
+		};
+
+		Map<String, Field> fields = PropertyCache.getFields(GenericSample.class);
+		Field field = fields.get("list");
+
+		// when
+		AnnotatedType actual = Types.resolveWithTypeReferenceGenerics(typeReference.getAnnotatedType(), field);
+
+		then(actual).isSameAs(Types.resolveWithTypeReferenceGenerics(otherTypeReference.getAnnotatedType(), field));
+		then(actual.getType()).isEqualTo(listTypeReference.getType());
+		then(actual.getType().hashCode()).isEqualTo(listTypeReference.getType().hashCode());
+		then(AnnotatedTypeKey.of(actual)).isEqualTo(AnnotatedTypeKey.of(listTypeReference.getAnnotatedType()));
+	}
+
+	@Test
+	void resolveWithTypeReferenceGenericsReturnsCopiedTypeArguments() {
+		// given
+		TypeReference<GenericSample<String>> typeReference = new TypeReference<GenericSample<String>>() {
+		};
+		TypeReference<List<String>> listTypeReference = new TypeReference<List<String>>() {
+		};
+		Field field = PropertyCache.getFields(GenericSample.class).get("list");
+		AnnotatedParameterizedType resolved = (AnnotatedParameterizedType)Types.resolveWithTypeReferenceGenerics(
+			typeReference.getAnnotatedType(),
+			field
+		);
+
+		// when
+		resolved.getAnnotatedActualTypeArguments()[0] = null;
+		((ParameterizedType)resolved.getType()).getActualTypeArguments()[0] = null;
+
+		then(resolved.getAnnotatedActualTypeArguments()[0].getType()).isEqualTo(String.class);
+		then(((ParameterizedType)resolved.getType()).getActualTypeArguments()[0]).isEqualTo(String.class);
+		then(resolved).isNotEqualTo(listTypeReference.getAnnotatedType());
+	}
+
 	@Test
 	void resolveWithTypeReferenceGenericsRefied() {
 		// given
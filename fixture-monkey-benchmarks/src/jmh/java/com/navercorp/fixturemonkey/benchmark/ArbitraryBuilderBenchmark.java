@@ -0,0 +1,94 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.navercorp.fixturemonkey.ArbitraryBuilder;
+import com.navercorp.fixturemonkey.FixtureMonkey;
+import com.navercorp.fixturemonkey.benchmark.BenchmarkSpecs.ManipulatedObject;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class ArbitraryBuilderBenchmark {
+	@Param({"0", "10", "100"})
+	public int manipulatorCount;
+
+	@Param
+	public ManipulatorType manipulatorType;
+
+	private FixtureMonkey fixtureMonkey;
+	private ArbitraryBuilder<ManipulatedObject> arbitraryBuilder;
+
+	@Setup
+	public void setUp() {
+		this.fixtureMonkey = FixtureMonkey.create();
+		this.arbitraryBuilder = manipulate(fixtureMonkey.giveMeBuilder(ManipulatedObject.class));
+	}
+
+	@Benchmark
+	public ManipulatedObject sample() {
+		return arbitraryBuilder.sample();
+	}
+
+	@Benchmark
+	public ManipulatedObject manipulateAndSample() {
+		return manipulate(fixtureMonkey.giveMeBuilder(ManipulatedObject.class)).sample();
+	}
+
+	private ArbitraryBuilder<ManipulatedObject> manipulate(ArbitraryBuilder<ManipulatedObject> builder) {
+		for (int i = 0; i < manipulatorCount; i++) {
+			manipulatorType.manipulate(builder, i);
+		}
+		return builder;
+	}
+
+	public enum ManipulatorType {
+		SET {
+			@Override
+			void manipulate(ArbitraryBuilder<ManipulatedObject> builder, int index) {
+				builder.set("value", "value" + index);
+			}
+		},
+		SIZE {
+			@Override
+			void manipulate(ArbitraryBuilder<ManipulatedObject> builder, int index) {
+				builder.size("values", index % 5);
+			}
+		},
+		POST_CONDITION {
+			@Override
+			void manipulate(ArbitraryBuilder<ManipulatedObject> builder, int index) {
+				builder.setPostCondition("value", String.class, it -> it == null || it.length() >= 0);
+			}
+		};
+
+		abstract void manipulate(ArbitraryBuilder<ManipulatedObject> builder, int index);
+	}
+}
@@ -0,0 +1,90 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.navercorp.fixturemonkey.FixtureMonkey;
+import com.navercorp.fixturemonkey.benchmark.BenchmarkSpecs.BuilderObject;
+import com.navercorp.fixturemonkey.benchmark.BenchmarkSpecs.ConstructorPropertiesObject;
+import com.navercorp.fixturemonkey.benchmark.BenchmarkSpecs.FlatObject;
+import com.navercorp.fixturemonkey.generator.ArbitraryGenerator;
+import com.navercorp.fixturemonkey.generator.BeanArbitraryGenerator;
+import com.navercorp.fixturemonkey.generator.BuilderArbitraryGenerator;
+import com.navercorp.fixturemonkey.generator.ConstructorPropertiesArbitraryGenerator;
+import com.navercorp.fixturemonkey.generator.FieldReflectionArbitraryGenerator;
+import com.navercorp.fixturemonkey.jackson.generator.JacksonArbitraryGenerator;
+
+/**
+ * Kotlin PrimaryConstructorArbitraryGenerator is measured by PrimaryConstructorArbitraryGeneratorBenchmark.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class ArbitraryGeneratorBenchmark {
+	@Param
+	public GeneratorType generatorType;
+
+	private FixtureMonkey fixtureMonkey;
+
+	@Setup
+	public void setUp() {
+		this.fixtureMonkey = FixtureMonkey.builder()
+			.defaultGenerator(generatorType.getGenerator())
+			.build();
+	}
+
+	@Benchmark
+	public Object giveMeOne() {
+		return fixtureMonkey.giveMeOne(generatorType.getType());
+	}
+
+	public enum GeneratorType {
+		BEAN(new BeanArbitraryGenerator(), FlatObject.class),
+		FIELD_REFLECTION(new FieldReflectionArbitraryGenerator(), FlatObject.class),
+		BUILDER(new BuilderArbitraryGenerator(), BuilderObject.class),
+		CONSTRUCTOR_PROPERTIES(new ConstructorPropertiesArbitraryGenerator(), ConstructorPropertiesObject.class),
+		JACKSON(new JacksonArbitraryGenerator(), FlatObject.class);
+
+		private final ArbitraryGenerator generator;
+		private final Class<?> type;
+
+		GeneratorType(ArbitraryGenerator generator, Class<?> type) {
+			this.generator = generator;
+			this.type = type;
+		}
+
+		public ArbitraryGenerator getGenerator() {
+			return generator;
+		}
+
+		public Class<?> getType() {
+			return type;
+		}
+	}
+}
@@ -0,0 +1,169 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.benchmark;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import javax.validation.constraints.Email;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.Past;
+import javax.validation.constraints.Pattern;
+import javax.validation.constraints.Positive;
+import javax.validation.constraints.Size;
+
+import lombok.Builder;
+import lombok.Data;
+import lombok.Getter;
+import lombok.Value;
+
+public final class BenchmarkSpecs {
+	private BenchmarkSpecs() {
+	}
+
+	public enum SpecType {
+		FLAT(FlatObject.class),
+		NESTED(NestedObject.class),
+		COLLECTION(CollectionObject.class),
+		ANNOTATED(AnnotatedObject.class);
+
+		private final Class<?> type;
+
+		SpecType(Class<?> type) {
+			this.type = type;
+		}
+
+		public Class<?> getType() {
+			return type;
+		}
+	}
+
+	public enum SimpleEnum {
+		ONE, TWO, THREE
+	}
+
+	@Data
+	public static class FlatObject {
+		private String string;
+		private int primitiveInteger;
+		private Integer wrapperInteger;
+		private long primitiveLong;
+		private double primitiveDouble;
+		private boolean primitiveBoolean;
+		private BigDecimal bigDecimal;
+		private LocalDateTime localDateTime;
+		private Instant instant;
+		private UUID uuid;
+		private SimpleEnum simpleEnum;
+	}
+
+	@Data
+	public static class NestedObject {
+		private String value;
+		private NestedLevel1 child;
+	}
+
+	@Data
+	public static class NestedLevel1 {
+		private String value;
+		private NestedLevel2 child;
+	}
+
+	@Data
+	public static class NestedLevel2 {
+		private String value;
+		private NestedLevel3 child;
+	}
+
+	@Data
+	public static class NestedLevel3 {
+		private String value;
+		private FlatObject child;
+	}
+
+	@Data
+	public static class CollectionObject {
+		private List<String> strings;
+		private Set<Integer> integers;
+		private Map<String, FlatObject> flatObjectMap;
+		private List<List<Integer>> nestedIntegers;
+		private FlatObject[] flatObjects;
+		private Optional<String> optionalString;
+	}
+
+	@Data
+	public static class AnnotatedObject {
+		@Pattern(regexp = "[a-z]{3}-\\d{4}")
+		private String code;
+
+		@Email
+		private String email;
+
+		@NotBlank
+		@Size(max = 20)
+		private String name;
+
+		@Positive
+		private int positive;
+
+		@Min(1)
+		@Max(100)
+		private int percent;
+
+		@Past
+		private LocalDate birthDate;
+
+		@Size(min = 1, max = 5)
+		private List<@NotBlank String> tags;
+	}
+
+	@Data
+	public static class ManipulatedObject {
+		private String value;
+		private List<String> values;
+	}
+
+	@Getter
+	@Builder
+	public static class BuilderObject {
+		private String string;
+		private int primitiveInteger;
+		private long primitiveLong;
+		private LocalDateTime localDateTime;
+		private SimpleEnum simpleEnum;
+	}
+
+	@Value
+	public static class ConstructorPropertiesObject {
+		String string;
+		int primitiveInteger;
+		long primitiveLong;
+		LocalDateTime localDateTime;
+		SimpleEnum simpleEnum;
+	}
+}
@@ -0,0 +1,65 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.navercorp.fixturemonkey.FixtureMonkey;
+import com.navercorp.fixturemonkey.benchmark.BenchmarkSpecs.SpecType;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class GiveMeBenchmark {
+	private static final int GIVE_ME_SIZE = 100;
+
+	@Param
+	public SpecType specType;
+
+	private FixtureMonkey fixtureMonkey;
+	private Class<?> type;
+
+	@Setup
+	public void setUp() {
+		this.fixtureMonkey = FixtureMonkey.create();
+		this.type = specType.getType();
+	}
+
+	@Benchmark
+	public Object giveMeOne() {
+		return fixtureMonkey.giveMeOne(type);
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(GIVE_ME_SIZE)
+	public List<?> giveMe() {
+		return fixtureMonkey.giveMe(type, GIVE_ME_SIZE);
+	}
+}
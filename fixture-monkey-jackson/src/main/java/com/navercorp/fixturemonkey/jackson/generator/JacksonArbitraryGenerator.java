@@ -26,6 +26,7 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import net.jqwik.api.Arbitrary;
 import net.jqwik.api.Builders;
@@ -51,6 +52,8 @@ import com.navercorp.fixturemonkey.jackson.property.JacksonPropertyNameResolver;
 public final class JacksonArbitraryGenerator extends AbstractArbitraryGenerator {
 	public static final JacksonArbitraryGenerator INSTANCE = new JacksonArbitraryGenerator();
 
+	private static final Map<String, DateTimeFormatter> DATE_TIME_FORMATTERS = new ConcurrentHashMap<>();
+
 	private final ObjectMapper objectMapper;
 	private final ArbitraryCustomizers arbitraryCustomizers;
 
@@ -112,15 +115,14 @@ public final class JacksonArbitraryGenerator extends AbstractArbitraryGenerator
 	}
 
 	private Object format(Object object, JsonFormat jsonFormat) {
-		DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern(jsonFormat.pattern());
 		if (object instanceof TemporalAccessor) {
 			TemporalAccessor temporalAccessor = (TemporalAccessor)object;
-			return dateTimeFormatter.format(temporalAccessor);
+			return getDateTimeFormatter(jsonFormat.pattern()).format(temporalAccessor);
 		} else if (object instanceof Date) {
 			TemporalAccessor dateTemporalAccessor = ((Date)object).toInstant()
 				.atZone(ZoneId.systemDefault())
 				.toLocalDate();
-			return dateTimeFormatter.format(dateTemporalAccessor);
+			return getDateTimeFormatter(jsonFormat.pattern()).format(dateTemporalAccessor);
 		} else if (object instanceof Enum && jsonFormat.shape().isNumeric()) {
 			return ((Enum)object).ordinal();
 		} else {
@@ -128,6 +130,10 @@ public final class JacksonArbitraryGenerator extends AbstractArbitraryGenerator
 		}
 	}
 
+	private static DateTimeFormatter getDateTimeFormatter(String pattern) {
+		return DATE_TIME_FORMATTERS.computeIfAbsent(pattern, DateTimeFormatter::ofPattern);
+	}
+
 	@Override
 	public ArbitraryGenerator withFixtureCustomizers(ArbitraryCustomizers arbitraryCustomizers) {
 		if (this.arbitraryCustomizers == arbitraryCustomizers) {
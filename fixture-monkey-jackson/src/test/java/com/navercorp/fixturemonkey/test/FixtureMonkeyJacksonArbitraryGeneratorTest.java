@@ -20,8 +20,11 @@ package com.navercorp.fixturemonkey.test;
 
 import static org.assertj.core.api.BDDAssertions.then;
 
+import java.time.LocalDate;
+
 import net.jqwik.api.Property;
 
+import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.JsonNode;
 
@@ -166,6 +169,19 @@ class FixtureMonkeyJacksonArbitraryGeneratorTest {
 		then(actual.getValue().isNull()).isTrue();
 	}
 
+	@Property
+	void giveMeJsonFormatSet() {
+		// given
+		LocalDate date = LocalDate.of(2021, 3, 4);
+
+		// when
+		JsonFormatClass actual = sut.giveMeBuilder(JsonFormatClass.class)
+			.set("date", date)
+			.sample();
+
+		then(actual.date).isEqualTo(date);
+	}
+
 	@Data
 	public static class JsonPropertyClass {
 		@JsonProperty("jsonValue")
@@ -176,4 +192,10 @@ class FixtureMonkeyJacksonArbitraryGeneratorTest {
 	public static class JsonNodeWrapperClass {
 		JsonNode value;
 	}
+
+	@Data
+	public static class JsonFormatClass {
+		@JsonFormat(pattern = "yyyy-MM-dd")
+		private LocalDate date;
+	}
 }
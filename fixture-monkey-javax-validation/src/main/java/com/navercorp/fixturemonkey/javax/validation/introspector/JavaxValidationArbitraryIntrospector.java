@@ -18,11 +18,8 @@
 
 package com.navercorp.fixturemonkey.javax.validation.introspector;
 
-import static java.util.stream.Collectors.toList;
-
 import java.math.BigDecimal;
 import java.math.BigInteger;
-import java.util.List;
 import java.util.Optional;
 
 import javax.validation.constraints.Email;
@@ -31,7 +28,6 @@ import javax.validation.constraints.Pattern;
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
-import net.jqwik.api.Arbitraries;
 import net.jqwik.api.Arbitrary;
 import net.jqwik.api.arbitraries.BigDecimalArbitrary;
 import net.jqwik.api.arbitraries.BigIntegerArbitrary;
@@ -46,6 +42,7 @@ import net.jqwik.api.arbitraries.StringArbitrary;
 import net.jqwik.web.api.Web;
 
 import com.navercorp.fixturemonkey.api.generator.ArbitraryGeneratorContext;
+import com.navercorp.fixturemonkey.api.generator.RegexGenerator;
 import com.navercorp.fixturemonkey.api.introspector.ArbitraryIntrospector;
 
 @API(since = "0.4.0", status = Status.EXPERIMENTAL)
@@ -78,14 +75,14 @@ public final class JavaxValidationArbitraryIntrospector implements ArbitraryIntr
 		if (pattern.isPresent()) {
 			Integer minValue = min != null ? min.intValue() : null;
 			Integer maxValue = max != null ? max.intValue() : null;
-			List<String> values = REGEX_GENERATOR.generateAll(pattern.get(), minValue, maxValue);
+			Arbitrary<String> values = REGEX_GENERATOR.generate(
+				pattern.get().regexp(), RegexGenerator.toFlags(pattern.get().flags()), minValue, maxValue
+			);
 			if (notBlank) {
-				values = values.stream()
-					.filter(it -> it != null && it.trim().isEmpty())
-					.collect(toList());
+				values = values.filter(it -> it != null && !it.trim().isEmpty());
 			}
 
-			return Arbitraries.of(values);
+			return values;
 		}
 
 		Arbitrary<String> arbitrary;
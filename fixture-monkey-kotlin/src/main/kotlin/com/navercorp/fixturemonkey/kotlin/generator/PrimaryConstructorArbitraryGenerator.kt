@@ -30,11 +30,16 @@ import com.navercorp.fixturemonkey.generator.FieldArbitraries
 import com.navercorp.fixturemonkey.kotlin.customizer.customizeFields
 import net.jqwik.api.Arbitrary
 import net.jqwik.api.Builders
+import java.lang.reflect.Constructor
 import java.lang.reflect.Field
+import java.util.concurrent.ConcurrentHashMap
 import kotlin.jvm.internal.Reflection
 import kotlin.reflect.KClass
+import kotlin.reflect.KFunction
 import kotlin.reflect.KParameter
+import kotlin.reflect.KVisibility
 import kotlin.reflect.full.primaryConstructor
+import kotlin.reflect.jvm.javaConstructor
 
 class PrimaryConstructorArbitraryGenerator(
     private val arbitraryCustomizers: ArbitraryCustomizers = ArbitraryCustomizers()
@@ -42,6 +47,8 @@ class PrimaryConstructorArbitraryGenerator(
 
     companion object {
         val INSTANCE = PrimaryConstructorArbitraryGenerator()
+
+        private val PRIMARY_CONSTRUCTORS = ConcurrentHashMap<Class<*>, PrimaryConstructorInvoker<*>>()
     }
 
     private val propertyNameResolver: PropertyNameResolver = PropertyNameResolver.IDENTITY
@@ -51,7 +58,10 @@ class PrimaryConstructorArbitraryGenerator(
         nodes: List<ArbitraryNode<*>>
     ): Arbitrary<T> {
         @Suppress("UNCHECKED_CAST")
-        val clazz = Reflection.createKotlinClass(arbitraryType.type) as KClass<T>
+        val invoker = PRIMARY_CONSTRUCTORS.computeIfAbsent(arbitraryType.type) {
+            PrimaryConstructorInvoker(Reflection.createKotlinClass(it))
+        } as PrimaryConstructorInvoker<T>
+        val clazz = invoker.kotlinClass
 
         val fieldArbitraries = FieldArbitraries(
             toArbitrariesByFieldName(nodes, { it.propertyName }) { _, arbitrary -> arbitrary }
@@ -59,22 +69,36 @@ class PrimaryConstructorArbitraryGenerator(
 
         arbitraryCustomizers.customizeFields(clazz, fieldArbitraries)
 
-        val constructor = requireNotNull(clazz.primaryConstructor) { "No primary constructor provided for $clazz" }
+        val constructor = invoker.constructor
+        val parameters = invoker.parameters
+        val omitted = BooleanArray(parameters.size)
 
-        var builderCombinator = Builders.withBuilder { mutableMapOf<KParameter, Any?>() }
-        for (parameter in constructor.parameters) {
+        var builderCombinator = Builders.withBuilder { arrayOfNulls<Any?>(parameters.size) }
+        for ((index, parameter) in parameters.withIndex()) {
             val parameterArbitrary = fieldArbitraries.getArbitrary(parameter.name)
-            builderCombinator = builderCombinator.use(parameterArbitrary).`in` { map, value ->
-                map.apply {
-                    this[parameter] = value
+            if (parameterArbitrary == null && parameter.isOptional) {
+                omitted[index] = true
+                continue
+            }
+
+            builderCombinator = builderCombinator.use(parameterArbitrary).`in` { arguments, value ->
+                arguments.apply {
+                    this[index] = value
                 }
             }
         }
 
-        return builderCombinator.build { map ->
-            constructor.callBy(map).let {
-                arbitraryCustomizers.customizeFixture(clazz.java, it)
+        val positional = invoker.positionalConstructor.takeIf { omitted.none { it } }
+        return builderCombinator.build { arguments ->
+            val fixture = if (positional != null) {
+                positional.newInstance(*arguments)
+            } else {
+                constructor.callBy(
+                    parameters.filterIndexed { index, _ -> !omitted[index] }
+                        .associateWith { arguments[it.index] }
+                )
             }
+            arbitraryCustomizers.customizeFixture(clazz.java, fixture)
         }
     }
 
@@ -90,3 +114,21 @@ class PrimaryConstructorArbitraryGenerator(
         }
     }
 }
+
+/**
+ * Kotlin reflection metadata of a primary constructor, resolved once per class.
+ * [positionalConstructor] is used when every parameter is given,
+ * [constructor] only when default values of optional parameters should be applied.
+ */
+private class PrimaryConstructorInvoker<T : Any>(val kotlinClass: KClass<T>) {
+    val constructor: KFunction<T> =
+        requireNotNull(kotlinClass.primaryConstructor) { "No primary constructor provided for $kotlinClass" }
+
+    val parameters: List<KParameter> = constructor.parameters
+
+    val positionalConstructor: Constructor<T>? = constructor.javaConstructor
+        ?.takeIf { constructor.visibility == KVisibility.PUBLIC }
+        ?.takeIf { it.parameterCount == parameters.size }
+        ?.takeIf { parameters.none { parameter -> (parameter.type.classifier as? KClass<*>)?.isValue == true } }
+        ?.takeIf { runCatching { it.isAccessible = true }.isSuccess }
+}
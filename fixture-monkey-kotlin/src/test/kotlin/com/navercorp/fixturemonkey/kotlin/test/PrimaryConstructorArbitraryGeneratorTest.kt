@@ -18,10 +18,14 @@
 
 package com.navercorp.fixturemonkey.kotlin.test
 
+import com.navercorp.fixturemonkey.generator.FieldArbitraries
+import com.navercorp.fixturemonkey.kotlin.customizer.KArbitraryCustomizer
+import com.navercorp.fixturemonkey.kotlin.giveMe
 import net.jqwik.api.ForAll
 import net.jqwik.api.Property
 import net.jqwik.api.domains.Domain
 import org.assertj.core.api.BDDAssertions.then
+import kotlin.reflect.KClass
 
 class PrimaryConstructorArbitraryGeneratorTest {
     @Property
@@ -62,6 +66,25 @@ class PrimaryConstructorArbitraryGeneratorTest {
         then(actual.stringValue).isNotEqualTo("default_value")
     }
 
+    @Property
+    fun giveMeClassWithDefaultValueWhenArbitraryRemoved() {
+        // when
+        val actual = SUT.giveMe(
+            2,
+            object : KArbitraryCustomizer<DefaultValue> {
+                override fun customizeFields(type: KClass<DefaultValue>, fieldArbitraries: FieldArbitraries) {
+                    fieldArbitraries.removeArbitrary("stringValue")
+                }
+
+                override fun customizeFixture(target: DefaultValue?): DefaultValue? = target
+            }
+        )
+
+        then(actual).allSatisfy {
+            then(it.stringValue).isEqualTo("default_value")
+        }
+    }
+
     @Property
     @Domain(PrimaryConstructorArbitraryGeneratorTestSpecs::class)
     fun giveMeClassWithSecondaryConstructor(@ForAll actual: SecondaryConstructor) {
@@ -30,6 +30,9 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
@@ -49,6 +52,7 @@ import net.jqwik.api.Combinators.F4;
 
 import com.navercorp.fixturemonkey.api.expression.ExpressionGenerator;
 import com.navercorp.fixturemonkey.api.property.FieldProperty;
+import com.navercorp.fixturemonkey.api.property.Property;
 import com.navercorp.fixturemonkey.api.property.PropertyNameResolver;
 import com.navercorp.fixturemonkey.api.random.Randoms;
 import com.navercorp.fixturemonkey.api.type.TypeReference;
@@ -89,6 +93,10 @@ public final class ArbitraryBuilder<T> {
 	private ArbitraryGenerator generator;
 	private ArbitraryCustomizers arbitraryCustomizers;
 	private boolean validOnly = true;
+	private final AtomicReference<CompiledArbitrary<T>> compiledArbitrary =
+		new AtomicReference<>(CompiledArbitrary.empty());
+	// dirty subtrees are traversed again when the outermost manipulator application ends
+	private int applyDepth = 0;
 
 	@SuppressWarnings({"unchecked", "rawtypes"})
 	ArbitraryBuilder(
@@ -201,26 +209,49 @@ public final class ArbitraryBuilder<T> {
 
 	public ArbitraryBuilder<T> generator(ArbitraryGenerator generator) {
 		this.generator = getGenerator(generator, arbitraryCustomizers);
+		this.invalidateCompiledArbitrary();
 		return this;
 	}
 
 	public Arbitrary<T> build() {
 		ArbitraryBuilder<T> buildArbitraryBuilder = this.copy();
+		CompiledArbitrary<T> buildCompiledArbitrary = this.compiledArbitrary.get();
+		// limited manipulators count their applications, a single tree applies them once per sample
+		boolean serialized = !buildArbitraryBuilder.builderManipulators.stream()
+			.allMatch(BuilderManipulator::isReusable);
+		Queue<ArbitraryBuilder<T>> idleArbitraryBuilders = new ConcurrentLinkedQueue<>();
 		return buildArbitraryBuilder.tree.result(() -> {
-			ArbitraryTree<T> buildTree = buildArbitraryBuilder.tree;
+			Arbitrary<T> compiled = buildArbitraryBuilder.getCompiledArbitrary();
+			if (compiled != null) {
+				return compiled;
+			}
 
-			buildArbitraryBuilder.traverser.traverse(
-				buildTree,
-				false,
-				(PropertyNameResolver)property -> buildArbitraryBuilder.generator.resolveFieldName(
-					((FieldProperty)property).getField())
-			);
+			if (serialized) {
+				synchronized (buildArbitraryBuilder) {
+					return buildArbitraryBuilder.generateArbitrary();
+				}
+			}
 
-			List<BuilderManipulator> actualManipulators = buildArbitraryBuilder.getActiveManipulators();
+			// a tree is traversed by only one thread at a time, concurrent samples traverse their own copies
+			ArbitraryBuilder<T> generateArbitraryBuilder = idleArbitraryBuilders.poll();
+			if (generateArbitraryBuilder == null) {
+				synchronized (buildArbitraryBuilder) {
+					generateArbitraryBuilder = buildArbitraryBuilder.copy();
+				}
+			}
 
-			buildArbitraryBuilder.apply(actualManipulators);
-			buildTree.update(buildArbitraryBuilder.generator, generatorMap);
-			return buildTree.getArbitrary();
+			try {
+				Arbitrary<T> arbitrary = generateArbitraryBuilder.generateArbitrary();
+				CompiledArbitrary<T> compiledArbitrary = generateArbitraryBuilder.compiledArbitrary.get();
+				if (compiledArbitrary.getArbitrary() != null) {
+					buildArbitraryBuilder.compiledArbitrary.set(compiledArbitrary);
+					// fails if this builder is compiled or invalidated after build
+					this.compiledArbitrary.compareAndSet(buildCompiledArbitrary, compiledArbitrary);
+				}
+				return arbitrary;
+			} finally {
+				idleArbitraryBuilders.offer(generateArbitraryBuilder);
+			}
 		}, this.validator, this.validOnly);
 	}
 
@@ -436,6 +467,7 @@ public final class ArbitraryBuilder<T> {
 		if (this.generator instanceof WithFixtureCustomizer) {
 			this.generator = ((WithFixtureCustomizer)this.generator).withFixtureCustomizers(arbitraryCustomizers);
 		}
+		this.invalidateCompiledArbitrary();
 		return this;
 	}
 
@@ -566,6 +598,22 @@ public final class ArbitraryBuilder<T> {
 
 	@SuppressWarnings("unchecked")
 	public <R> ArbitraryBuilder<T> apply(BuilderManipulator builderManipulator) {
+		this.invalidateCompiledArbitrary();
+		applyDepth++;
+		try {
+			doApply(builderManipulator);
+		} finally {
+			applyDepth--;
+		}
+
+		if (applyDepth == 0) {
+			tree.refreshDirtyNodes(this::retraverse);
+		}
+		return this;
+	}
+
+	@SuppressWarnings("unchecked")
+	private <R> void doApply(BuilderManipulator builderManipulator) {
 		if (builderManipulator instanceof ArbitraryApply) {
 			apply((ArbitraryApply<T>)builderManipulator);
 		} else if (builderManipulator instanceof ContainerSizeManipulator) {
@@ -581,14 +629,13 @@ public final class ArbitraryBuilder<T> {
 				"Unimplemented manipulator type : " + builderManipulator.getClass().toGenericString()
 			);
 		}
-		return this;
 	}
 
 	@SuppressWarnings({"rawtypes", "unchecked"})
 	private ArbitraryBuilder<T> apply(ContainerSizeManipulator containerSizeManipulator) {
 		ArbitraryExpression arbitraryExpression = containerSizeManipulator.getArbitraryExpression();
 
-		Collection<ArbitraryNode> foundNodes = this.findNodesByExpression(arbitraryExpression);
+		Collection<ArbitraryNode> foundNodes = this.findNodesByExpression(arbitraryExpression, false);
 		for (ArbitraryNode foundNode : foundNodes) {
 			if (!foundNode.getType().isContainer()) {
 				throw new IllegalArgumentException("Only Container can set size");
@@ -596,25 +643,23 @@ public final class ArbitraryBuilder<T> {
 			foundNode.setContainerSizeConstraint(
 				new ContainerSizeConstraint(containerSizeManipulator.getMin(), containerSizeManipulator.getMax())
 			);
-			traverser.traverse(
-				foundNode,
-				false,
-				(PropertyNameResolver)property -> this.generator.resolveFieldName(
-					((FieldProperty)property).getField())
-			); // regenerate subtree
+			tree.markDirty(foundNode); // regenerate subtree
 		}
 		return this;
 	}
 
 	@SuppressWarnings({"unchecked", "rawtypes"})
 	private void apply(AbstractArbitrarySet<T> fixtureSet) {
-		Collection<ArbitraryNode> foundNodes = this.findNodesByExpression(fixtureSet.getArbitraryExpression());
+		Collection<ArbitraryNode> foundNodes = this.findNodesByExpression(
+			fixtureSet.getArbitraryExpression(),
+			!(fixtureSet instanceof ArbitrarySet)
+		);
 
 		for (ArbitraryNode<T> foundNode : foundNodes) {
 			if (fixtureSet.isApplicable()) {
 				foundNode.apply(fixtureSet);
 				if (fixtureSet instanceof ArbitrarySet) {
-					traverser.traverse(foundNode, foundNode.isKeyOfMapStructure(), generator);
+					tree.markDirty(foundNode);
 				}
 			}
 		}
@@ -623,7 +668,7 @@ public final class ArbitraryBuilder<T> {
 	@SuppressWarnings("rawtypes")
 	private ArbitraryBuilder<T> apply(ArbitraryNullity arbitraryNullity) {
 		ArbitraryExpression arbitraryExpression = arbitraryNullity.getArbitraryExpression();
-		Collection<ArbitraryNode> foundNodes = this.findNodesByExpression(arbitraryExpression);
+		Collection<ArbitraryNode> foundNodes = this.findNodesByExpression(arbitraryExpression, true);
 		for (ArbitraryNode foundNode : foundNodes) {
 			foundNode.apply(arbitraryNullity);
 		}
@@ -633,7 +678,8 @@ public final class ArbitraryBuilder<T> {
 	@SuppressWarnings({"unchecked", "rawtypes"})
 	private <R> ArbitraryBuilder<T> apply(PostArbitraryManipulator<R> postArbitraryManipulator) {
 		Collection<ArbitraryNode> foundNodes = this.findNodesByExpression(
-			postArbitraryManipulator.getArbitraryExpression()
+			postArbitraryManipulator.getArbitraryExpression(),
+			true
 		);
 		if (!foundNodes.isEmpty()) {
 			for (ArbitraryNode<R> foundNode : foundNodes) {
@@ -667,9 +713,18 @@ public final class ArbitraryBuilder<T> {
 		List<PostArbitraryManipulator> postArbitraryManipulators =
 			this.extractPostArbitraryManipulatorsFrom(arbitraryManipulators);
 
-		metadataManipulators.stream().sorted().forEachOrdered(it -> it.accept(this));
-		orderedArbitraryManipulators.forEach(it -> it.accept(this));
-		postArbitraryManipulators.forEach(it -> it.accept(this));
+		applyDepth++;
+		try {
+			metadataManipulators.stream().sorted().forEachOrdered(it -> it.accept(this));
+			orderedArbitraryManipulators.forEach(it -> it.accept(this));
+			postArbitraryManipulators.forEach(it -> it.accept(this));
+		} finally {
+			applyDepth--;
+		}
+
+		if (applyDepth == 0) {
+			tree.refreshDirtyNodes(this::retraverse);
+		}
 	}
 
 	@Deprecated
@@ -689,6 +744,7 @@ public final class ArbitraryBuilder<T> {
 			this.generatorMap
 		);
 		copied.validOnly(this.validOnly);
+		copied.compiledArbitrary.set(this.compiledArbitrary.get());
 		return copied;
 	}
 
@@ -729,23 +785,77 @@ public final class ArbitraryBuilder<T> {
 			.collect(toList());
 	}
 
-	@SuppressWarnings({"rawtypes", "unchecked"})
-	private Collection<ArbitraryNode> findNodesByExpression(ArbitraryExpression arbitraryExpression) {
-		Collection<ArbitraryNode> foundNodes = tree.findAll(arbitraryExpression);
-		ArbitraryNode resetNode = tree.findFirstResetNode();
-
-		if (resetNode != null && !resetNode.isLeafNode()) {
-			traverser.traverse(
-				resetNode,
-				resetNode.isKeyOfMapStructure(),
-				(PropertyNameResolver)property -> generator.resolveFieldName(((FieldProperty)property).getField())
-			);
-			foundNodes = tree.findAll(arbitraryExpression);
+	/**
+	 * Subtrees to traverse again are deferred by marking dirty, {@code refreshFound} should be true
+	 * unless the manipulator marks the found nodes dirty itself.
+	 */
+	@SuppressWarnings("rawtypes")
+	private Collection<ArbitraryNode> findNodesByExpression(
+		ArbitraryExpression arbitraryExpression,
+		boolean refreshFound
+	) {
+		Collection<ArbitraryNode> foundNodes = tree.findAll(arbitraryExpression, this::retraverse);
+
+		boolean retraversed = false;
+		for (ArbitraryNode<?> resetNode : tree.pollResetNodes()) {
+			if (!resetNode.isLeafNode()) {
+				retraverse(resetNode);
+				retraversed = true;
+			}
+		}
+
+		if (retraversed) {
+			foundNodes = tree.findAll(arbitraryExpression, this::retraverse);
 		}
 
+		if (refreshFound) {
+			for (ArbitraryNode<?> foundNode : foundNodes) {
+				tree.refreshIfDirty(foundNode, this::retraverse);
+			}
+		}
 		return foundNodes;
 	}
 
+	private void retraverse(ArbitraryNode<?> node) {
+		traverser.traverse(node, node.isKeyOfMapStructure(), new GeneratorPropertyNameResolver(this.generator));
+	}
+
+	private Arbitrary<T> generateArbitrary() {
+		List<BuilderManipulator> compiledManipulators = new ArrayList<>(this.builderManipulators);
+
+		this.traverser.traverse(
+			this.tree,
+			false,
+			new GeneratorPropertyNameResolver(this.generator)
+		);
+
+		List<BuilderManipulator> actualManipulators = this.getActiveManipulators();
+		boolean reusable = actualManipulators.stream().allMatch(BuilderManipulator::isReusable);
+
+		this.apply(actualManipulators);
+		this.tree.update(this.generator, generatorMap, this.validOnly ? this.validator : null);
+		Arbitrary<T> arbitrary = this.tree.getArbitrary();
+
+		if (reusable && this.tree.isCompilable()) {
+			this.compiledArbitrary.set(new CompiledArbitrary<>(compiledManipulators, arbitrary));
+		}
+		return arbitrary;
+	}
+
+	@Nullable
+	private Arbitrary<T> getCompiledArbitrary() {
+		CompiledArbitrary<T> compiledArbitrary = this.compiledArbitrary.get();
+		if (!compiledArbitrary.isCompiledFrom(this.builderManipulators)) {
+			return null;
+		}
+		return compiledArbitrary.getArbitrary();
+	}
+
+	// tree is changed without changing manipulators, an arbitrary compiled before would be stale
+	private void invalidateCompiledArbitrary() {
+		this.compiledArbitrary.set(CompiledArbitrary.empty());
+	}
+
 	private ArbitraryGenerator getGenerator(ArbitraryGenerator generator, ArbitraryCustomizers customizers) {
 		if (generator instanceof WithFixtureCustomizer) {
 			generator = ((WithFixtureCustomizer)generator).withFixtureCustomizers(customizers);
@@ -784,4 +894,66 @@ public final class ArbitraryBuilder<T> {
 		Class<?> generateClazz = tree.getClazz();
 		return Objects.hash(generateClazz, builderManipulators);
 	}
+
+	/**
+	 * An arbitrary traversed and manipulated once, which is reused until manipulators are changed.
+	 * An empty one is created for each invalidation, so that it is never mistaken for another by identity.
+	 */
+	private static final class CompiledArbitrary<T> {
+		@Nullable
+		private final List<BuilderManipulator> manipulators;
+		@Nullable
+		private final Arbitrary<T> arbitrary;
+
+		private CompiledArbitrary(@Nullable List<BuilderManipulator> manipulators, @Nullable Arbitrary<T> arbitrary) {
+			this.manipulators = manipulators;
+			this.arbitrary = arbitrary;
+		}
+
+		private static <T> CompiledArbitrary<T> empty() {
+			return new CompiledArbitrary<>(null, null);
+		}
+
+		private boolean isCompiledFrom(List<BuilderManipulator> manipulators) {
+			return this.arbitrary != null && manipulators.equals(this.manipulators);
+		}
+
+		@Nullable
+		private Arbitrary<T> getArbitrary() {
+			return arbitrary;
+		}
+	}
+
+	/**
+	 * Resolves property names by the generator, equal while it wraps the same generator.
+	 */
+	private static final class GeneratorPropertyNameResolver implements PropertyNameResolver {
+		private final ArbitraryGenerator generator;
+
+		private GeneratorPropertyNameResolver(ArbitraryGenerator generator) {
+			this.generator = generator;
+		}
+
+		@Override
+		public String resolve(Property property) {
+			return this.generator.resolveFieldName(((FieldProperty)property).getField());
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (obj == null || getClass() != obj.getClass()) {
+				return false;
+			}
+			GeneratorPropertyNameResolver that = (GeneratorPropertyNameResolver)obj;
+			return generator == that.generator;
+		}
+
+		@Override
+		public int hashCode() {
+			return System.identityHashCode(generator);
+		}
+	}
 }
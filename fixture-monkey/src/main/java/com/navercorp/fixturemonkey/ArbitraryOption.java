@@ -33,6 +33,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Collections;
@@ -42,20 +43,30 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
 import java.util.OptionalDouble;
 import java.util.OptionalInt;
 import java.util.OptionalLong;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.stream.DoubleStream;
 import java.util.stream.IntStream;
 import java.util.stream.LongStream;
 
+import javax.annotation.Nullable;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+import net.jqwik.api.Arbitrary;
+
 import com.navercorp.fixturemonkey.arbitrary.ContainerArbitraryNodeGenerator;
 import com.navercorp.fixturemonkey.arbitrary.InterfaceSupplier;
 import com.navercorp.fixturemonkey.arbitrary.NullableArbitraryEvaluator;
 import com.navercorp.fixturemonkey.generator.AnnotatedArbitraryGenerator;
+import com.navercorp.fixturemonkey.generator.AnnotationSource;
 import com.navercorp.fixturemonkey.generator.BigDecimalAnnotatedArbitraryGenerator;
 import com.navercorp.fixturemonkey.generator.BigIntegerAnnotatedArbitraryGenerator;
 import com.navercorp.fixturemonkey.generator.BooleanAnnotatedArbitraryGenerator;
@@ -85,7 +96,10 @@ import com.navercorp.fixturemonkey.generator.ZonedDateTimeAnnotatedArbitraryGene
 public final class ArbitraryOption {
 	public static final ArbitraryOption DEFAULT_ARBITRARY_OPTIONS = ArbitraryOption.builder().build();
 
+	private static final int MAX_ANNOTATED_ARBITRARY_CACHE_SIZE = 4096;
+
 	private final Map<Class<?>, AnnotatedArbitraryGenerator<?>> annotatedArbitraryMap;
+	private final Map<AnnotatedArbitraryKey, Arbitrary<?>> annotatedArbitraryCache = new ConcurrentHashMap<>();
 	private final Map<Class<?>, InterfaceSupplier<?>> interfaceSupplierMap;
 	private final Map<Class<?>, Function<FixtureMonkey, ArbitraryBuilder<?>>> arbitraryBuildingSupplierMap;
 	private final Map<Class<?>, ArbitraryBuilder<?>> defaultArbitraryBuilderMap;
@@ -152,6 +166,36 @@ public final class ArbitraryOption {
 		return annotatedArbitraryMap;
 	}
 
+	/**
+	 * Returns the arbitrary generated by the generator registered for {@code clazz}, null if not registered.
+	 * It is generated once per the class and the annotations, except the date types ranged by the current time.
+	 * So a registered {@link AnnotatedArbitraryGenerator} is invoked once per the class and the annotations,
+	 * not once per generation.
+	 */
+	@API(since = "0.4.0", status = Status.EXPERIMENTAL)
+	@SuppressWarnings("unchecked")
+	@Nullable
+	public <T> Arbitrary<T> getAnnotatedArbitrary(Class<T> clazz, List<Annotation> annotations) {
+		AnnotatedArbitraryGenerator<?> generator = annotatedArbitraryMap.get(clazz);
+		if (generator == null) {
+			return null;
+		}
+
+		if (TypeSupports.isDateType(clazz) || Calendar.class.isAssignableFrom(clazz)) {
+			return (Arbitrary<T>)generator.generate(new AnnotationSource(annotations));
+		}
+
+		AnnotatedArbitraryKey key = new AnnotatedArbitraryKey(clazz, annotations);
+		Arbitrary<?> arbitrary = annotatedArbitraryCache.get(key);
+		if (arbitrary == null) {
+			arbitrary = generator.generate(new AnnotationSource(annotations));
+			if (annotatedArbitraryCache.size() < MAX_ANNOTATED_ARBITRARY_CACHE_SIZE) {
+				annotatedArbitraryCache.putIfAbsent(key.copy(), arbitrary);
+			}
+		}
+		return (Arbitrary<T>)arbitrary;
+	}
+
 	public <T> boolean isDefaultArbitraryType(Class<T> clazz) {
 		return annotatedArbitraryMap.containsKey(clazz);
 	}
@@ -345,6 +389,9 @@ public final class ArbitraryOption {
 			return this;
 		}
 
+		/**
+		 * The generator is invoked once per the class and the annotations, its arbitrary is reused.
+		 */
 		public FixtureOptionsBuilder addAnnotatedArbitraryGenerator(
 			Class<?> clazz, AnnotatedArbitraryGenerator<?> generator
 		) {
@@ -440,4 +487,35 @@ public final class ArbitraryOption {
 			);
 		}
 	}
+
+	private static final class AnnotatedArbitraryKey {
+		private final Class<?> type;
+		private final List<Annotation> annotations;
+
+		private AnnotatedArbitraryKey(Class<?> type, List<Annotation> annotations) {
+			this.type = type;
+			this.annotations = annotations;
+		}
+
+		private AnnotatedArbitraryKey copy() {
+			return new AnnotatedArbitraryKey(type, Collections.unmodifiableList(new ArrayList<>(annotations)));
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (obj == null || getClass() != obj.getClass()) {
+				return false;
+			}
+			AnnotatedArbitraryKey that = (AnnotatedArbitraryKey)obj;
+			return type == that.type && annotations.equals(that.annotations);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(type, annotations);
+		}
+	}
 }
@@ -20,13 +20,29 @@ package com.navercorp.fixturemonkey;
 
 import static java.util.stream.Collectors.toList;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import javax.annotation.Nullable;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
 
 import net.jqwik.api.Arbitrary;
+import net.jqwik.api.RandomGenerator;
 
+import com.navercorp.fixturemonkey.api.random.Randoms;
 import com.navercorp.fixturemonkey.api.type.TypeReference;
 import com.navercorp.fixturemonkey.arbitrary.ArbitraryTraverser;
 import com.navercorp.fixturemonkey.customizer.ArbitraryCustomizer;
@@ -94,6 +110,97 @@ public class FixtureMonkey {
 		return this.giveMe(type, customizer).limit(size).collect(toList());
 	}
 
+	/**
+	 * Generates {@code size} objects by splitting them into {@code parallelism} shards run on a new ForkJoinPool.
+	 */
+	@API(since = "0.4.0", status = Status.EXPERIMENTAL)
+	public <T> List<T> giveMeParallel(Class<T> type, int size, int parallelism) {
+		ForkJoinPool forkJoinPool = newForkJoinPool(parallelism);
+		try {
+			return this.giveMeParallel(type, size, parallelism, forkJoinPool);
+		} finally {
+			forkJoinPool.shutdown();
+		}
+	}
+
+	@API(since = "0.4.0", status = Status.EXPERIMENTAL)
+	public <T> List<T> giveMeParallel(Class<T> type, int size, int parallelism, Executor executor) {
+		return this.giveMeParallel(type, size, parallelism, executor, Randoms.createRandomSeed());
+	}
+
+	/**
+	 * Each shard generates with its own random derived from the given seed,
+	 * the result is the same for the same seed regardless of thread scheduling.
+	 * It does not hold if the type has a default ArbitraryBuilder with a limited manipulator,
+	 * the shards share its limit in the order they are scheduled.
+	 */
+	@API(since = "0.4.0", status = Status.EXPERIMENTAL)
+	public <T> List<T> giveMeParallel(Class<T> type, int size, int parallelism, Executor executor, String seed) {
+		return this.sampleParallel(this.giveMeArbitrary(type), size, parallelism, executor, seed);
+	}
+
+	@API(since = "0.4.0", status = Status.EXPERIMENTAL)
+	public <T> List<T> giveMeParallel(TypeReference<T> typeReference, int size, int parallelism) {
+		ForkJoinPool forkJoinPool = newForkJoinPool(parallelism);
+		try {
+			return this.giveMeParallel(typeReference, size, parallelism, forkJoinPool);
+		} finally {
+			forkJoinPool.shutdown();
+		}
+	}
+
+	@API(since = "0.4.0", status = Status.EXPERIMENTAL)
+	public <T> List<T> giveMeParallel(
+		TypeReference<T> typeReference,
+		int size,
+		int parallelism,
+		Executor executor
+	) {
+		return this.giveMeParallel(typeReference, size, parallelism, executor, Randoms.createRandomSeed());
+	}
+
+	/**
+	 * Each shard generates with its own random derived from the given seed,
+	 * the result is the same for the same seed regardless of thread scheduling.
+	 */
+	@API(since = "0.4.0", status = Status.EXPERIMENTAL)
+	public <T> List<T> giveMeParallel(
+		TypeReference<T> typeReference,
+		int size,
+		int parallelism,
+		Executor executor,
+		String seed
+	) {
+		return this.sampleParallel(this.giveMeArbitrary(typeReference), size, parallelism, executor, seed);
+	}
+
+	/**
+	 * Generates {@code size} objects as consecutive batches of {@code batchSize}, only one batch is held per consumer.
+	 * Each batch generates with its own random derived from the seed,
+	 * so a parallel stream splits by batches and returns the same batches for the same seed.
+	 * It does not hold if the type has a default ArbitraryBuilder with a limited manipulator,
+	 * the batches share its limit in the order they are generated.
+	 */
+	@API(since = "0.4.0", status = Status.EXPERIMENTAL)
+	public <T> Stream<List<T>> giveMeBatches(Class<T> type, long size, int batchSize) {
+		return this.giveMeBatches(type, size, batchSize, Randoms.createRandomSeed());
+	}
+
+	@API(since = "0.4.0", status = Status.EXPERIMENTAL)
+	public <T> Stream<List<T>> giveMeBatches(Class<T> type, long size, int batchSize, String seed) {
+		return this.sampleBatches(this.giveMeArbitrary(type), size, batchSize, seed);
+	}
+
+	@API(since = "0.4.0", status = Status.EXPERIMENTAL)
+	public <T> Stream<List<T>> giveMeBatches(TypeReference<T> typeReference, long size, int batchSize) {
+		return this.giveMeBatches(typeReference, size, batchSize, Randoms.createRandomSeed());
+	}
+
+	@API(since = "0.4.0", status = Status.EXPERIMENTAL)
+	public <T> Stream<List<T>> giveMeBatches(TypeReference<T> typeReference, long size, int batchSize, String seed) {
+		return this.sampleBatches(this.giveMeArbitrary(typeReference), size, batchSize, seed);
+	}
+
 	public <T> T giveMeOne(Class<T> type) {
 		return this.giveMe(type, 1).get(0);
 	}
@@ -141,6 +248,92 @@ public class FixtureMonkey {
 		);
 	}
 
+	private <T> List<T> sampleParallel(
+		Arbitrary<T> arbitrary,
+		int size,
+		int parallelism,
+		Executor executor,
+		String seed
+	) {
+		if (size < 0) {
+			throw new IllegalArgumentException("size should not be negative. size: " + size);
+		}
+		checkParallelism(parallelism);
+
+		long baseSeed = parseSeed(seed);
+		int shardCount = Math.max(1, Math.min(parallelism, size));
+		List<CompletableFuture<List<T>>> shards = new ArrayList<>(shardCount);
+		for (int shardIndex = 0; shardIndex < shardCount; shardIndex++) {
+			int shardSize = (int)((long)size * (shardIndex + 1) / shardCount - (long)size * shardIndex / shardCount);
+			long shardSeed = toShardSeed(baseSeed, shardIndex);
+			shards.add(CompletableFuture.supplyAsync(() -> sampleShard(arbitrary, shardSize, shardSeed), executor));
+		}
+
+		List<T> results = new ArrayList<>(size);
+		try {
+			for (CompletableFuture<List<T>> shard : shards) {
+				results.addAll(shard.join());
+			}
+		} catch (CompletionException ex) {
+			if (ex.getCause() instanceof RuntimeException) {
+				throw (RuntimeException)ex.getCause();
+			}
+			throw ex;
+		}
+		return results;
+	}
+
+	private static ForkJoinPool newForkJoinPool(int parallelism) {
+		checkParallelism(parallelism);
+		return new ForkJoinPool(parallelism);
+	}
+
+	private static void checkParallelism(int parallelism) {
+		if (parallelism <= 0) {
+			throw new IllegalArgumentException("parallelism should be positive. parallelism: " + parallelism);
+		}
+	}
+
+	/**
+	 * The random of the shard is only scoped to this call, the random of the running thread is left as it is.
+	 */
+	private static <T> List<T> sampleShard(Arbitrary<T> arbitrary, int shardSize, long shardSeed) {
+		Random random = Randoms.newRandom(shardSeed);
+		return Randoms.withRandom(random, () -> {
+			RandomGenerator<T> generator = arbitrary.generator(1000);
+			List<T> results = new ArrayList<>(shardSize);
+			for (int i = 0; i < shardSize; i++) {
+				results.add(generator.next(random).value());
+			}
+			return results;
+		});
+	}
+
+	private <T> Stream<List<T>> sampleBatches(Arbitrary<T> arbitrary, long size, int batchSize, String seed) {
+		if (size < 0) {
+			throw new IllegalArgumentException("size should not be negative. size: " + size);
+		}
+		if (batchSize <= 0) {
+			throw new IllegalArgumentException("batchSize should be positive. batchSize: " + batchSize);
+		}
+
+		BatchSpliterator<T> spliterator = new BatchSpliterator<>(arbitrary, parseSeed(seed), batchSize, 0L, size);
+		return StreamSupport.stream(spliterator, false);
+	}
+
+	private static long parseSeed(String seed) {
+		try {
+			return Long.parseLong(seed);
+		} catch (NumberFormatException ex) {
+			throw new IllegalArgumentException(String.format("[%s] is not a valid random seed.", seed), ex);
+		}
+	}
+
+	private static long toShardSeed(long baseSeed, long shardIndex) {
+		long shardSeed = baseSeed + 0x9E3779B97F4A7C15L * (shardIndex + 1);
+		return shardSeed == 0L ? 1L : shardSeed; // 0L is not an allowed seed value
+	}
+
 	private <T> ArbitraryBuilder<T> giveMeBuilder(
 		Class<T> clazz,
 		ArbitraryOption options,
@@ -186,4 +379,64 @@ public class FixtureMonkey {
 			this.generatorMap
 		);
 	}
+
+	/**
+	 * Splits only at the batch boundaries, every batch is generated by the random of its index
+	 * in the same way as a shard of {@link #giveMeParallel(Class, int, int, Executor, String)}.
+	 * The random of the consuming thread is not changed, even for a sequential stream.
+	 */
+	private static final class BatchSpliterator<T> implements Spliterator<List<T>> {
+		private final Arbitrary<T> arbitrary;
+		private final long baseSeed;
+		private final int batchSize;
+		private long origin;
+		private final long fence;
+
+		private BatchSpliterator(Arbitrary<T> arbitrary, long baseSeed, int batchSize, long origin, long fence) {
+			this.arbitrary = arbitrary;
+			this.baseSeed = baseSeed;
+			this.batchSize = batchSize;
+			this.origin = origin;
+			this.fence = fence;
+		}
+
+		@Override
+		public boolean tryAdvance(Consumer<? super List<T>> action) {
+			if (origin >= fence) {
+				return false;
+			}
+
+			int currentBatchSize = (int)Math.min(batchSize, fence - origin);
+			long batchSeed = toShardSeed(baseSeed, origin / batchSize);
+			List<T> batch = sampleShard(arbitrary, currentBatchSize, batchSeed);
+			origin += currentBatchSize;
+			action.accept(batch);
+			return true;
+		}
+
+		@Nullable
+		@Override
+		public Spliterator<List<T>> trySplit() {
+			long batchCount = estimateSize();
+			if (batchCount < 2) {
+				return null;
+			}
+
+			long middle = origin + batchCount / 2 * batchSize;
+			BatchSpliterator<T> prefix = new BatchSpliterator<>(arbitrary, baseSeed, batchSize, origin, middle);
+			this.origin = middle;
+			return prefix;
+		}
+
+		@Override
+		public long estimateSize() {
+			long remaining = fence - origin;
+			return remaining / batchSize + (remaining % batchSize == 0 ? 0 : 1);
+		}
+
+		@Override
+		public int characteristics() {
+			return ORDERED | SIZED | SUBSIZED | NONNULL;
+		}
+	}
 }
@@ -129,6 +129,9 @@ public class FixtureMonkeyBuilder {
 		return this;
 	}
 
+	/**
+	 * The generator is invoked once per the class and the annotations, its arbitrary is reused.
+	 */
 	public <T> FixtureMonkeyBuilder addAnnotatedArbitraryGenerator(
 		Class<T> clazz,
 		AnnotatedArbitraryGenerator<T> generator
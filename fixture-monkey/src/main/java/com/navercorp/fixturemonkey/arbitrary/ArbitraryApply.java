@@ -45,6 +45,11 @@ public final class ArbitraryApply<T> extends AbstractArbitraryExpressionManipula
 		arbitraryBuilder.apply(this);
 	}
 
+	@Override
+	public boolean isReusable() {
+		return false;
+	}
+
 	@Override
 	public BuilderManipulator copy() {
 		return new ArbitraryApply<>(toSampleArbitraryBuilder, builderBiConsumer);
@@ -24,38 +24,66 @@ import static java.util.stream.Collectors.toList;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
 public final class ArbitraryExpression implements Comparable<ArbitraryExpression> {
+	private static final int MAX_INTERNED_EXPRESSIONS = 4096;
+	private static final Map<String, ArbitraryExpression> INTERNED_EXPRESSIONS = new ConcurrentHashMap<>();
+
 	private final List<Exp> expList;
+	private final List<Cursor> cursors;
 
 	private ArbitraryExpression(List<Exp> expList) {
-		this.expList = expList;
+		this.expList = Collections.unmodifiableList(expList);
+		this.cursors = Collections.unmodifiableList(
+			expList.stream()
+				.flatMap(it -> it.toCursors().stream())
+				.collect(toList())
+		);
 	}
 
 	private ArbitraryExpression(String expression) {
-		expList = Arrays.stream(expression.split("\\."))
-			.map(Exp::new)
-			.collect(toList());
+		this(
+			Arrays.stream(expression.split("\\."))
+				.map(Exp::new)
+				.collect(toList())
+		);
 	}
 
+	/**
+	 * Returns the parsed expression, expressions are immutable so a parsed one is shared by the same string.
+	 */
 	public static ArbitraryExpression from(String expression) {
-		return new ArbitraryExpression(expression);
+		ArbitraryExpression interned = INTERNED_EXPRESSIONS.get(expression);
+		if (interned != null) {
+			return interned;
+		}
+
+		ArbitraryExpression parsed = new ArbitraryExpression(expression);
+		if (INTERNED_EXPRESSIONS.size() < MAX_INTERNED_EXPRESSIONS) {
+			INTERNED_EXPRESSIONS.putIfAbsent(expression, parsed);
+		}
+		return parsed;
 	}
 
 	public ArbitraryExpression addFirst(String expression) {
-		String newStringExpression = expression + "." + this;
-		return new ArbitraryExpression(newStringExpression);
+		List<Exp> newExpList = new ArrayList<>(from(expression).expList);
+		newExpList.addAll(this.expList);
+		return new ArbitraryExpression(newExpList);
 	}
 
 	public ArbitraryExpression addLast(String expression) {
-		String newStringExpression = this + "." + expression;
-		return new ArbitraryExpression(newStringExpression);
+		List<Exp> newExpList = new ArrayList<>(this.expList);
+		newExpList.addAll(from(expression).expList);
+		return new ArbitraryExpression(newExpList);
 	}
 
 	@API(since = "0.4.0", status = Status.EXPERIMENTAL)
@@ -120,15 +148,7 @@ public final class ArbitraryExpression implements Comparable<ArbitraryExpression
 	}
 
 	public List<Cursor> toCursors() {
-		return this.expList.stream()
-			.map(Exp::toCursors)
-			.reduce(
-				new ArrayList<>(),
-				(list1, list2) -> {
-					list1.addAll(list2);
-					return list1;
-				}
-			);
+		return cursors;
 	}
 
 	private static final class ExpIndex implements Comparable<ExpIndex> {
@@ -186,7 +206,7 @@ public final class ArbitraryExpression implements Comparable<ArbitraryExpression
 		}
 
 		public Exp(String expression) {
-			index = new ArrayList<>();
+			List<ExpIndex> indices = new ArrayList<>();
 			int li = expression.indexOf('[');
 			int ri = expression.indexOf(']');
 
@@ -204,13 +224,14 @@ public final class ArbitraryExpression implements Comparable<ArbitraryExpression
 						final int indexValue = indexString.equals(ALL_INDEX_STRING)
 							? NO_OR_ALL_INDEX_INTEGER_VALUE
 							: Integer.parseInt(indexString);
-						this.index.add(new ExpIndex(indexValue));
+						indices.add(new ExpIndex(indexValue));
 					}
 					expression = expression.substring(ri + 1);
 					li = expression.indexOf('[');
 					ri = expression.indexOf(']');
 				}
 			}
+			this.index = Collections.unmodifiableList(indices);
 		}
 
 		public List<Cursor> toCursors() {
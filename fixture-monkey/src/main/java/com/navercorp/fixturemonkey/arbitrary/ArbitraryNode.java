@@ -18,12 +18,17 @@
 
 package com.navercorp.fixturemonkey.arbitrary;
 
+import static com.navercorp.fixturemonkey.Constants.ALL_INDEX_STRING;
 import static com.navercorp.fixturemonkey.Constants.DEFAULT_ELEMENT_MAX_SIZE;
 import static com.navercorp.fixturemonkey.Constants.HEAD_NAME;
 import static com.navercorp.fixturemonkey.Constants.NO_OR_ALL_INDEX_INTEGER_VALUE;
 
+import java.lang.ref.WeakReference;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.function.Supplier;
 
@@ -43,7 +48,19 @@ import com.navercorp.fixturemonkey.TypeSupports;
 
 public final class ArbitraryNode<T> {
 	@SuppressWarnings("rawtypes")
-	private final List<ArbitraryNode> children;
+	private List<ArbitraryNode> children;
+	// the node whose children are shared by this copied node, they are copied when this node accesses them
+	@Nullable
+	private volatile ArbitraryNode<?> childrenSource;
+	// copied nodes sharing the children of this node, they copy the children before this node hands them out
+	@Nullable
+	private volatile List<WeakReference<ArbitraryNode<?>>> childrenSharers;
+	// guards sharing the children, a copied node shares the lock of the node it is copied from
+	private Object sharingLock = this;
+	// elements are generated by the arbitrary of this node, without a child node per element
+	private boolean collapsed = false;
+	private boolean expanded = false;
+	private int collapsedElementSize = 0;
 	private final ArbitraryType<T> type;
 	private final String propertyName;
 	private final String metadata;
@@ -52,6 +69,8 @@ public final class ArbitraryNode<T> {
 	private final boolean keyOfMapStructure;
 	private final double nullInject;
 	private final Logger log = LoggerFactory.getLogger(this.getClass());
+	@Nullable
+	private ChildIndex childIndex;
 
 	@SuppressWarnings("rawtypes")
 	public ArbitraryNode(
@@ -82,29 +101,36 @@ public final class ArbitraryNode<T> {
 
 	@SuppressWarnings("rawtypes")
 	public List<ArbitraryNode> findChildrenByCursor(Cursor cursor) {
-		List<ArbitraryNode> foundChildren = new ArrayList<>();
-		for (ArbitraryNode child : children) {
-			if (child.isKeyOfMapStructure()) {
-				continue;
-			}
-			ExpIndexCursor nodeCursor = new ExpIndexCursor(child.propertyName, child.indexOfIterable);
-			if (cursor.match(nodeCursor)) {
-				child.mark();
-				foundChildren.add(child);
-			}
+		ChildIndex index = this.childIndex;
+		if (index == null) {
+			index = new ChildIndex(getChildren());
+			this.childIndex = index;
+		}
+
+		List<ArbitraryNode> foundChildren = new ArrayList<>(index.find(cursor));
+		for (ArbitraryNode child : foundChildren) {
+			child.mark();
 		}
 		return foundChildren;
 	}
 
 	public int getElementSize() {
+		return resolveElementSize(getElementSizeConstraint());
+	}
+
+	/**
+	 * Returns the constraint of the element size given by the manipulator or the annotations.
+	 */
+	@API(since = "0.4.0", status = Status.EXPERIMENTAL)
+	public ContainerSizeConstraint getElementSizeConstraint() {
 		if (!type.isContainer()) {
 			throw new IllegalStateException("Can not initialize element size because node is not container.");
 		} else if (type.isOptional()) {
-			return new ContainerSizeConstraint(0, 1).getArbitraryElementSize();
+			return new ContainerSizeConstraint(0, 1);
 		}
 
 		if (getContainerSizeConstraint() != null) {
-			return getContainerSizeConstraint().getArbitraryElementSize();
+			return getContainerSizeConstraint();
 		}
 
 		Integer min = null;
@@ -129,7 +155,15 @@ public final class ArbitraryNode<T> {
 			}
 		}
 
-		return new ContainerSizeConstraint(min, max).getArbitraryElementSize();
+		return new ContainerSizeConstraint(min, max);
+	}
+
+	private int resolveElementSize(ContainerSizeConstraint containerSizeConstraint) {
+		boolean sizeGivenByValue = getValue() != null && isNotSetContainerSize();
+		if (!sizeGivenByValue && containerSizeConstraint.getMinSize() != containerSizeConstraint.getMaxSize()) {
+			this.setDynamic(true);
+		}
+		return containerSizeConstraint.getArbitraryElementSize();
 	}
 
 	public boolean isNotSetContainerSize() {
@@ -160,6 +194,8 @@ public final class ArbitraryNode<T> {
 				}
 			}
 			this.status.setValue(new LazyValue(toValue));
+			// the size given before is not traversed yet when deferred, the given value decides the size
+			this.status.setContainerSizeConstraint(null);
 		} else {
 			throw new IllegalArgumentException("Not Implemented PreArbitraryManipulator");
 		}
@@ -170,7 +206,27 @@ public final class ArbitraryNode<T> {
 	}
 
 	public void addChildNode(ArbitraryNode<?> child) {
-		children.add(child);
+		getChildren().add(child);
+		childIndex = null;
+	}
+
+	/**
+	 * Children should be removed by this method, not by {@link #getChildren()} to keep the index of children.
+	 */
+	@API(since = "0.4.0", status = Status.EXPERIMENTAL)
+	public void clearChildren() {
+		if (childrenSource != null || childrenSharers != null) {
+			synchronized (sharingLock) {
+				ArbitraryNode<?> source = this.childrenSource;
+				if (source != null) {
+					this.childrenSource = null;
+					source.removeSharer(this);
+				}
+				this.childrenSharers = null; // the cleared children are never changed by this node
+			}
+		}
+		children.clear();
+		childIndex = null;
 	}
 
 	public void setNullable(boolean nullable) {
@@ -213,6 +269,15 @@ public final class ArbitraryNode<T> {
 		this.getStatus().setReset(reset);
 	}
 
+	/**
+	 * Marks the node as decided differently on every traversal, such as a randomly sized container
+	 * or a value given by {@link InterfaceSupplier}.
+	 */
+	@API(since = "0.4.0", status = Status.EXPERIMENTAL)
+	public void setDynamic(boolean dynamic) {
+		this.getStatus().setDynamic(dynamic);
+	}
+
 	@SuppressWarnings({"rawtypes", "unchecked"})
 	public void addPostArbitraryOperation(PostArbitraryManipulator postArbitraryManipulator) {
 		this.status.addPostArbitraryManipulator(postArbitraryManipulator);
@@ -240,9 +305,76 @@ public final class ArbitraryNode<T> {
 
 	@SuppressWarnings("rawtypes")
 	public List<ArbitraryNode> getChildren() {
+		if (childrenSource != null || childrenSharers != null) {
+			synchronized (sharingLock) {
+				ownChildren();
+				releaseSharers();
+			}
+		}
 		return children;
 	}
 
+	/**
+	 * Copies the children shared with the node this node is copied from, should be called holding the lock.
+	 */
+	@SuppressWarnings("rawtypes")
+	private void ownChildren() {
+		ArbitraryNode<?> source = this.childrenSource;
+		if (source == null) {
+			return;
+		}
+
+		List<ArbitraryNode> ownChildren = new ArrayList<>(children.size());
+		for (ArbitraryNode child : children) {
+			ownChildren.add(child.copy());
+		}
+		children = ownChildren;
+		childIndex = null;
+		this.childrenSource = null;
+		source.removeSharer(this);
+	}
+
+	/**
+	 * Lets the copied nodes copy the children before they could be changed, should be called holding the lock.
+	 */
+	private void releaseSharers() {
+		List<WeakReference<ArbitraryNode<?>>> sharers = this.childrenSharers;
+		if (sharers == null) {
+			return;
+		}
+
+		this.childrenSharers = null;
+		for (WeakReference<ArbitraryNode<?>> sharer : sharers) {
+			ArbitraryNode<?> sharedNode = sharer.get();
+			if (sharedNode != null) {
+				sharedNode.ownChildren();
+			}
+		}
+	}
+
+	private void addSharer(ArbitraryNode<?> sharedNode) {
+		List<WeakReference<ArbitraryNode<?>>> sharers = this.childrenSharers;
+		if (sharers == null) {
+			sharers = new ArrayList<>();
+		} else {
+			sharers.removeIf(it -> it.get() == null);
+		}
+		sharers.add(new WeakReference<>(sharedNode));
+		this.childrenSharers = sharers;
+	}
+
+	private void removeSharer(ArbitraryNode<?> sharedNode) {
+		List<WeakReference<ArbitraryNode<?>>> sharers = this.childrenSharers;
+		if (sharers == null) {
+			return;
+		}
+
+		sharers.removeIf(it -> it.get() == null || it.get() == sharedNode);
+		if (sharers.isEmpty()) {
+			this.childrenSharers = null;
+		}
+	}
+
 	public ArbitraryType<T> getType() {
 		if (type instanceof NullArbitraryType) {
 			LazyValue<T> value = getValue();
@@ -299,9 +431,56 @@ public final class ArbitraryNode<T> {
 		return this.getStatus().isFixed();
 	}
 
+	@API(since = "0.4.0", status = Status.EXPERIMENTAL)
+	public boolean isCollapsed() {
+		return collapsed;
+	}
+
+	/**
+	 * Marks the elements are generated without a child node per element,
+	 * by the arbitrary of this node or by drawing its first child node repeatedly.
+	 */
+	@API(since = "0.4.0", status = Status.EXPERIMENTAL)
+	public void setCollapsed(boolean collapsed) {
+		this.collapsed = collapsed;
+	}
+
+	/**
+	 * Returns the number of elements drawn from the only child node of a collapsed container.
+	 */
+	@API(since = "0.4.0", status = Status.EXPERIMENTAL)
+	public int getCollapsedElementSize() {
+		return collapsedElementSize;
+	}
+
+	@API(since = "0.4.0", status = Status.EXPERIMENTAL)
+	public void setCollapsedElementSize(int collapsedElementSize) {
+		this.collapsedElementSize = collapsedElementSize;
+	}
+
+	@API(since = "0.4.0", status = Status.EXPERIMENTAL)
+	public boolean isExpanded() {
+		return expanded;
+	}
+
+	/**
+	 * Requests a child node per element, this node should be traversed again after expanded.
+	 * The elements drawn from a template node keep their size.
+	 */
+	@API(since = "0.4.0", status = Status.EXPERIMENTAL)
+	public void expand() {
+		if (this.collapsed && !this.children.isEmpty() && isNotSetContainerSize()) {
+			// keeps the size drawn when collapsed, unless a size is given after
+			setContainerSizeConstraint(new ContainerSizeConstraint(collapsedElementSize, collapsedElementSize));
+		}
+		this.collapsed = false;
+		this.expanded = true;
+		this.setArbitrary(null);
+	}
+
 	@SuppressWarnings("BooleanMethodIsAlwaysInverted")
 	public boolean isLeafNode() {
-		return (this.getChildren().isEmpty() || isMap()) && this.getArbitrary() != null;
+		return (this.children.isEmpty() || isMap()) && this.getArbitrary() != null;
 	}
 
 	@API(since = "0.4.0", status = Status.EXPERIMENTAL)
@@ -321,21 +500,33 @@ public final class ArbitraryNode<T> {
 		return this.getStatus().isReset();
 	}
 
+	@API(since = "0.4.0", status = Status.EXPERIMENTAL)
+	public boolean isDynamic() {
+		return this.getStatus().isDynamic();
+	}
+
 	public boolean isDecomposedAsNull() {
 		LazyValue<T> value = this.getValue();
 		return value != null && value.isEmpty();
 	}
 
+	/**
+	 * Returns a copy which copies the children of this node when it accesses them first,
+	 * a subtree which is traversed again before being accessed is never copied.
+	 * This node lets the copy take its children before handing them out by {@link #getChildren()},
+	 * so a child reached by {@link #getChildren()} after copying could be changed without changing the copy.
+	 * Sharing is guarded by a lock shared with the copies, so it could be copied by many threads at once.
+	 */
 	@SuppressWarnings({"rawtypes", "unchecked"})
 	public ArbitraryNode<T> copy() {
-		List<ArbitraryNode> copyChildren = new ArrayList<>();
-		List<ArbitraryNode> children = this.getChildren();
-		for (ArbitraryNode child : children) {
-			copyChildren.add(child.copy());
+		synchronized (sharingLock) {
+			return doCopy();
 		}
+	}
 
-		return ArbitraryNode.builder()
-			.children(copyChildren)
+	@SuppressWarnings({"rawtypes", "unchecked"})
+	private ArbitraryNode<T> doCopy() {
+		ArbitraryNode<T> copied = ArbitraryNode.builder()
 			.type(this.getType())
 			.propertyName(this.getPropertyName())
 			.metadata(this.getMetadata())
@@ -345,6 +536,17 @@ public final class ArbitraryNode<T> {
 			.nullInject(this.getNullInject())
 			.nullable(this.isNullable())
 			.build();
+		copied.collapsed = this.collapsed;
+		copied.expanded = this.expanded;
+		copied.collapsedElementSize = this.collapsedElementSize;
+		copied.sharingLock = this.sharingLock;
+		if (!this.children.isEmpty()) {
+			ArbitraryNode<?> source = this.childrenSource != null ? this.childrenSource : this;
+			copied.children = new ArrayList<>(this.children);
+			copied.childrenSource = source;
+			source.addSharer(copied);
+		}
+		return copied;
 	}
 
 	@Override
@@ -383,6 +585,62 @@ public final class ArbitraryNode<T> {
 		}
 	}
 
+	/**
+	 * Children indexed by property name and index, so a cursor finds its children without scanning.
+	 */
+	@SuppressWarnings("rawtypes")
+	private static final class ChildIndex {
+		private final List<ArbitraryNode> children = new ArrayList<>();
+		private final Map<String, List<ArbitraryNode>> childrenByName = new HashMap<>();
+		private final Map<String, Map<Integer, List<ArbitraryNode>>> childrenByNameAndIndex = new HashMap<>();
+
+		private ChildIndex(List<ArbitraryNode> children) {
+			for (ArbitraryNode child : children) {
+				if (child.isKeyOfMapStructure()) {
+					continue;
+				}
+				this.children.add(child);
+				this.childrenByName.computeIfAbsent(child.propertyName, it -> new ArrayList<>()).add(child);
+				this.childrenByNameAndIndex.computeIfAbsent(child.propertyName, it -> new HashMap<>())
+					.computeIfAbsent(child.indexOfIterable, it -> new ArrayList<>())
+					.add(child);
+			}
+		}
+
+		private List<ArbitraryNode> find(Cursor cursor) {
+			String name = cursor.getName();
+			if (ALL_INDEX_STRING.equals(name) || childrenByName.containsKey(ALL_INDEX_STRING)) {
+				return filter(children, cursor);
+			}
+
+			List<ArbitraryNode> namedChildren = childrenByName.get(name);
+			if (namedChildren == null) {
+				return Collections.emptyList();
+			}
+
+			int index = cursor.getIndex();
+			if (index == NO_OR_ALL_INDEX_INTEGER_VALUE) {
+				return namedChildren;
+			}
+
+			Map<Integer, List<ArbitraryNode>> childrenByIndex = childrenByNameAndIndex.get(name);
+			if (childrenByIndex.containsKey(NO_OR_ALL_INDEX_INTEGER_VALUE)) {
+				return filter(namedChildren, cursor);
+			}
+			return childrenByIndex.getOrDefault(index, Collections.emptyList());
+		}
+
+		private static List<ArbitraryNode> filter(List<ArbitraryNode> candidates, Cursor cursor) {
+			List<ArbitraryNode> foundChildren = new ArrayList<>();
+			for (ArbitraryNode candidate : candidates) {
+				if (cursor.match(candidate.propertyName, candidate.indexOfIterable)) {
+					foundChildren.add(candidate);
+				}
+			}
+			return foundChildren;
+		}
+	}
+
 	public static final class ArbitraryNodeBuilder<T> {
 		@SuppressWarnings("rawtypes")
 		private List<ArbitraryNode> children = new ArrayList<>();
@@ -507,6 +765,7 @@ public final class ArbitraryNode<T> {
 		private boolean active = true; // isNull
 		private boolean fixed = false;
 		private boolean reset = false;
+		private boolean dynamic = false;
 
 		private ArbitraryNodeStatus() {
 		}
@@ -520,7 +779,8 @@ public final class ArbitraryNode<T> {
 			boolean manipulated,
 			boolean active,
 			boolean fixed,
-			boolean reset
+			boolean reset,
+			boolean dynamic
 		) {
 			this.arbitrary = arbitrary;
 			this.containerSizeConstraint = containerSizeConstraint;
@@ -531,6 +791,7 @@ public final class ArbitraryNode<T> {
 			this.active = active;
 			this.fixed = fixed;
 			this.reset = reset;
+			this.dynamic = dynamic;
 		}
 
 		@Nullable
@@ -570,6 +831,10 @@ public final class ArbitraryNode<T> {
 			return reset;
 		}
 
+		public boolean isDynamic() {
+			return dynamic;
+		}
+
 		public void setArbitrary(@Nullable Arbitrary<T> arbitrary) {
 			this.arbitrary = arbitrary;
 		}
@@ -590,12 +855,20 @@ public final class ArbitraryNode<T> {
 			this.reset = reset;
 		}
 
+		public void setDynamic(boolean dynamic) {
+			this.dynamic = dynamic;
+		}
+
 		public void setContainerSizeConstraint(@Nullable ContainerSizeConstraint containerSizeConstraint) {
 			this.containerSizeConstraint = containerSizeConstraint;
 		}
 
 		public void addPostArbitraryManipulator(PostArbitraryManipulator<T> postArbitraryManipulator) {
-			this.postArbitraryManipulators.add(postArbitraryManipulator);
+			// copied statuses share the list
+			List<PostArbitraryManipulator<T>> manipulators = new ArrayList<>(this.postArbitraryManipulators.size() + 1);
+			manipulators.addAll(this.postArbitraryManipulators);
+			manipulators.add(postArbitraryManipulator);
+			this.postArbitraryManipulators = manipulators;
 		}
 
 		public void setPostArbitraryManipulators(List<PostArbitraryManipulator<T>> postArbitraryManipulators) {
@@ -620,7 +893,8 @@ public final class ArbitraryNode<T> {
 				this.isManipulated(),
 				this.isActive(),
 				this.isFixed(),
-				this.isReset()
+				this.isReset(),
+				this.isDynamic()
 			);
 		}
 
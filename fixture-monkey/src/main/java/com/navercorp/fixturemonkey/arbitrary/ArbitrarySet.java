@@ -52,6 +52,11 @@ public final class ArbitrarySet<T> extends AbstractArbitrarySet<T> {
 		return limit > 0;
 	}
 
+	@Override
+	public boolean isReusable() {
+		return limit == Long.MAX_VALUE;
+	}
+
 	@Override
 	public Object getInputValue() {
 		return value;
@@ -58,6 +58,11 @@ public final class ArbitrarySetArbitrary<T> extends AbstractArbitrarySet<T> {
 		return limit > 0;
 	}
 
+	@Override
+	public boolean isReusable() {
+		return limit == Long.MAX_VALUE;
+	}
+
 	@SuppressWarnings("unchecked")
 	@Override
 	public boolean equals(Object obj) {
@@ -57,6 +57,11 @@ public final class ArbitrarySetPostCondition<T> extends AbstractArbitraryExpress
 		}
 	}
 
+	@Override
+	public boolean isReusable() {
+		return limit == Long.MAX_VALUE;
+	}
+
 	@Override
 	public boolean isMappableTo(ArbitraryNode<T> arbitraryNode) {
 		Class<?> nodeClazz = arbitraryNode.getType().getType();
@@ -44,6 +44,11 @@ public final class ArbitrarySpecAny implements BuilderManipulator {
 		arbitraryBuilder.specAny(specs.toArray(new ExpressionSpec[0]));
 	}
 
+	@Override
+	public boolean isReusable() {
+		return false;
+	}
+
 	@Override
 	public BuilderManipulator copy() {
 		List<ExpressionSpec> copiedSpecs = specs.stream()
@@ -18,17 +18,17 @@
 
 package com.navercorp.fixturemonkey.arbitrary;
 
-import static com.navercorp.fixturemonkey.TypeSupports.extractFields;
-
+import java.lang.reflect.AnnotatedArrayType;
 import java.lang.reflect.AnnotatedType;
 import java.lang.reflect.Field;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
-import java.util.Optional;
 
 import javax.annotation.Nullable;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.Null;
+import javax.validation.groups.Default;
 
 import net.jqwik.api.Arbitraries;
 import net.jqwik.api.Arbitrary;
@@ -39,14 +39,30 @@ import com.navercorp.fixturemonkey.api.property.FieldProperty;
 import com.navercorp.fixturemonkey.api.property.Property;
 import com.navercorp.fixturemonkey.api.property.PropertyNameResolver;
 import com.navercorp.fixturemonkey.api.type.Types;
-import com.navercorp.fixturemonkey.generator.AnnotatedArbitraryGenerator;
-import com.navercorp.fixturemonkey.generator.AnnotationSource;
 import com.navercorp.fixturemonkey.generator.FieldNameResolver;
 
 public final class ArbitraryTraverser {
 	public static final ArbitraryTraverser INSTANCE = new ArbitraryTraverser(ArbitraryOption.DEFAULT_ARBITRARY_OPTIONS);
 	private final ArbitraryOption arbitraryOption;
 
+	// kept by each class, so resolved fields do not keep classes of a discarded ClassLoader alive
+	private final ClassValue<ResolvedFields> resolvedFields = new ClassValue<ResolvedFields>() {
+		@Override
+		protected ResolvedFields computeValue(Class<?> type) {
+			List<TraversableField> fields = TraversableField.of(type);
+			boolean[] nullables = new boolean[fields.size()];
+			for (int i = 0; i < fields.size(); i++) {
+				TraversableField field = fields.get(i);
+				nullables[i] = isNullableField(
+					field.getArbitraryType(),
+					field.getField(),
+					arbitraryOption.isDefaultNotNull()
+				);
+			}
+			return new ResolvedFields(fields, nullables);
+		}
+	};
+
 	public ArbitraryTraverser(ArbitraryOption arbitraryOption) {
 		this.arbitraryOption = arbitraryOption;
 	}
@@ -98,7 +114,15 @@ public final class ArbitraryTraverser {
 		boolean active,
 		PropertyNameResolver propertyNameResolver
 	) {
-		node.getChildren().clear();
+		node.clearChildren();
+		node.setDynamic(false);
+		node.setCollapsed(false);
+		Null nullAnnotation = node.getType().getAnnotation(Null.class);
+		if (node.getValue() == null && nullAnnotation != null && isDefaultGroup(nullAnnotation.groups())) {
+			// @Null allows exactly one value, generating anything else would only be rejected by the validator
+			node.setArbitrary(Arbitraries.just(null));
+			return;
+		}
 		initializeDefaultArbitrary(node);
 		LazyValue<T> nowValue = node.getValue();
 		ArbitraryType<T> nowNodeType = node.getType();
@@ -107,17 +131,13 @@ public final class ArbitraryTraverser {
 			arbitraryOption.getContainerArbitraryNodeGenerator(nowNodeType.getType());
 
 		if (isTraversable(nowNodeType)) {
-			List<Field> fields = extractFields(clazz);
-			for (Field field : fields) {
-				Property property = new FieldProperty(field);
-				ArbitraryType arbitraryType = new ArbitraryType(
-					Types.getActualType(property.getType()),
-					property.getAnnotatedType(),
-					property.getAnnotations()
-				);
+			ResolvedFields fields = resolvedFields.get(clazz);
+			for (int i = 0; i < fields.size(); i++) {
+				TraversableField field = fields.get(i);
+				Property property = field.getProperty();
+				ArbitraryType arbitraryType = field.getArbitraryType();
 				double nullInject = arbitraryOption.getNullInject();
-				boolean defaultNotNull = arbitraryOption.isDefaultNotNull();
-				boolean nullable = isNullableField(arbitraryType, field, defaultNotNull);
+				boolean nullable = fields.isNullable(i);
 				LazyValue<?> nextValue = getNextValue(nowValue, property);
 				nullable = nextValue == null && nullable;
 				boolean nextActive = (nextValue == null || !nextValue.isEmpty()) && active;
@@ -127,7 +147,7 @@ public final class ArbitraryTraverser {
 
 				ArbitraryNode<?> nextNode = ArbitraryNode.builder()
 					.type(arbitraryType)
-					.propertyName(propertyNameResolver.resolve(property))
+					.propertyName(fields.getPropertyName(i, propertyNameResolver))
 					.nullable(nullable)
 					.nullInject(nullInject)
 					.keyOfMapStructure(keyOfMapStructure)
@@ -144,7 +164,11 @@ public final class ArbitraryTraverser {
 			} else if (nowNodeType.isMap() || nowNodeType.isMapEntry()) {
 				traverseContainer(node, active, propertyNameResolver, MapArbitraryNodeGenerator.INSTANCE);
 			} else if (nowNodeType.isArray()) {
-				traverseContainer(node, active, propertyNameResolver, ArrayArbitraryNodeGenerator.INSTANCE);
+				if (isCollapsible(node)) {
+					collapsePrimitiveArray(node);
+				} else {
+					traverseContainer(node, active, propertyNameResolver, ArrayArbitraryNodeGenerator.INSTANCE);
+				}
 			} else if (nowNodeType.isOptional()) {
 				traverseContainer(node, active, propertyNameResolver, OptionalArbitraryNodeGenerator.INSTANCE);
 			} else {
@@ -167,7 +191,9 @@ public final class ArbitraryTraverser {
 			} else if (nowNodeType.isInterface() || nowNodeType.isAbstract()) {
 				InterfaceSupplier interfaceSupplier =
 					arbitraryOption.getInterfaceSupplierOrDefault(nowNodeType.getType());
-				node.setArbitrary(Arbitraries.just((T)interfaceSupplier.get(nowNodeType.getType())));
+				T suppliedValue = (T)interfaceSupplier.get(nowNodeType.getType());
+				node.setDynamic(suppliedValue != null);
+				node.setArbitrary(Arbitraries.just(suppliedValue));
 			} else {
 				node.setArbitrary(Arbitraries.just(null));
 			}
@@ -187,6 +213,41 @@ public final class ArbitraryTraverser {
 		}
 	}
 
+	/**
+	 * A primitive array not given by value is generated without a node per element until an element is manipulated.
+	 */
+	private boolean isCollapsible(ArbitraryNode<?> node) {
+		if (node.getValue() != null || node.isExpanded()
+			|| !(node.getType().getAnnotatedType() instanceof AnnotatedArrayType)
+		) {
+			return false;
+		}
+
+		Class<?> componentType = node.getType().getType().getComponentType();
+		return componentType.isPrimitive()
+			&& arbitraryOption.isDefaultArbitraryType(componentType)
+			&& arbitraryOption.isGeneratableClass(componentType)
+			&& arbitraryOption.getDefaultArbitraryBuilder(componentType) == null;
+	}
+
+	@SuppressWarnings({"rawtypes", "unchecked"})
+	private <T> void collapsePrimitiveArray(ArbitraryNode<T> node) {
+		ArbitraryType<?> componentType = node.getType().getArrayArbitraryType();
+		ArbitraryNode<?> elementNode = ArbitraryNode.builder()
+			.type(componentType)
+			.propertyName(node.getPropertyName())
+			.build();
+
+		node.setCollapsed(true);
+		node.setArbitrary(
+			PrimitiveArrays.arbitrary(
+				componentType.getType(),
+				registeredArbitrary(elementNode),
+				node.getElementSizeConstraint()
+			)
+		);
+	}
+
 	@SuppressWarnings({"rawtypes", "unchecked"})
 	private <T> Arbitrary<T> registeredArbitrary(ArbitraryNode<T> currentNode) {
 		ArbitraryType type = currentNode.getType();
@@ -199,14 +260,11 @@ public final class ArbitraryTraverser {
 			clazz = type.getType();
 		}
 
-		AnnotationSource annotationSource = new AnnotationSource(type.getAnnotations());
-
-		Map<Class<?>, AnnotatedArbitraryGenerator<?>> annotatedArbitraryMap =
-			arbitraryOption.getAnnotatedArbitraryMap();
-
-		return (Arbitrary<T>)Optional.ofNullable(annotatedArbitraryMap.get(clazz))
-			.map(arbitraryGenerator -> arbitraryGenerator.generate(annotationSource))
-			.orElseThrow(() -> new IllegalArgumentException("Class is not registered " + clazz.getName()));
+		Arbitrary<T> arbitrary = arbitraryOption.getAnnotatedArbitrary(clazz, type.getAnnotations());
+		if (arbitrary == null) {
+			throw new IllegalArgumentException("Class is not registered " + clazz.getName());
+		}
+		return arbitrary;
 	}
 
 	@Nullable
@@ -261,6 +319,13 @@ public final class ArbitraryTraverser {
 		}
 	}
 
+	/**
+	 * Returns whether the constraint is validated by default, the other groups are not validated by default.
+	 */
+	private static boolean isDefaultGroup(Class<?>[] groups) {
+		return groups.length == 0 || Arrays.asList(groups).contains(Default.class);
+	}
+
 	private boolean isTraversable(ArbitraryType<?> type) {
 		Class<?> clazz = type.getType();
 		if (clazz == null) {
@@ -278,6 +343,59 @@ public final class ArbitraryTraverser {
 			&& !type.isAbstract();
 	}
 
+	/**
+	 * Fields of a class with the verdicts resolved by the option of a traverser.
+	 * It does not refer to the traverser, which would keep the traverser alive as long as the class.
+	 */
+	private static final class ResolvedFields {
+		private final List<TraversableField> fields;
+		private final boolean[] nullables;
+		@Nullable
+		private volatile PropertyNames propertyNames;
+
+		private ResolvedFields(List<TraversableField> fields, boolean[] nullables) {
+			this.fields = fields;
+			this.nullables = nullables;
+		}
+
+		private int size() {
+			return fields.size();
+		}
+
+		private TraversableField get(int index) {
+			return fields.get(index);
+		}
+
+		private boolean isNullable(int index) {
+			return nullables[index];
+		}
+
+		/**
+		 * Returns the property name resolved by {@code resolver}, reused while an equal resolver is given.
+		 */
+		private String getPropertyName(int index, PropertyNameResolver resolver) {
+			PropertyNames names = this.propertyNames;
+			if (names == null || !names.resolver.equals(resolver)) {
+				names = new PropertyNames(resolver, fields);
+				this.propertyNames = names;
+			}
+			return names.names[index];
+		}
+	}
+
+	private static final class PropertyNames {
+		private final PropertyNameResolver resolver;
+		private final String[] names;
+
+		private PropertyNames(PropertyNameResolver resolver, List<TraversableField> fields) {
+			this.resolver = resolver;
+			this.names = new String[fields.size()];
+			for (int i = 0; i < fields.size(); i++) {
+				this.names[i] = resolver.resolve(fields.get(i).getProperty());
+			}
+		}
+	}
+
 	private static class PropertyNameResolverAdapter implements FieldNameResolver, PropertyNameResolver {
 		private final FieldNameResolver fieldNameResolver;
 
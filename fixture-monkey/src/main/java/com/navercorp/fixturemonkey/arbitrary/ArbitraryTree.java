@@ -18,19 +18,26 @@
 
 package com.navercorp.fixturemonkey.arbitrary;
 
+import static com.navercorp.fixturemonkey.Constants.COLLAPSED_ELEMENT_MIN_SIZE;
 import static com.navercorp.fixturemonkey.Constants.HEAD_NAME;
+import static com.navercorp.fixturemonkey.Constants.NO_OR_ALL_INDEX_INTEGER_VALUE;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.LinkedList;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 import javax.annotation.Nullable;
 
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
 import net.jqwik.api.Arbitrary;
 
 import com.navercorp.fixturemonkey.generator.ArbitraryGenerator;
@@ -38,38 +45,227 @@ import com.navercorp.fixturemonkey.validator.ArbitraryValidator;
 
 public final class ArbitraryTree<T> {
 	private final ArbitraryNode<T> head;
+	// compared by identity, equals of ArbitraryNode compares the structure
+	private final List<ArbitraryNode<?>> dirtyNodes = new ArrayList<>();
+	private final List<ArbitraryNode<?>> resetNodes = new ArrayList<>();
 
 	public ArbitraryTree(ArbitraryNode<T> head) {
 		this.head = head;
 	}
 
+	/**
+	 * Deprecated Use findAll(ArbitraryExpression, Consumer) instead.
+	 * It only searches the nodes as they are, a dirty or collapsed node is neither traversed again nor expanded.
+	 */
+	@Deprecated
 	@SuppressWarnings("rawtypes")
 	public Collection<ArbitraryNode> findAll(ArbitraryExpression arbitraryExpression) {
-		Queue<ArbitraryNode> selectNodes = new LinkedList<>();
+		List<ArbitraryNode> selectNodes = new ArrayList<>();
 		selectNodes.add(head);
 		head.setManipulated(true);
-		List<ArbitraryNode> nextNodes = new ArrayList<>();
 
 		List<Cursor> cursors = arbitraryExpression.toCursors();
 		for (Cursor cursor : cursors) {
 			if (isHeadName(cursor)) {
 				continue;
 			}
-			while (!selectNodes.isEmpty()) {
-				ArbitraryNode<?> selectNode = selectNodes.poll();
 
+			List<ArbitraryNode> nextNodes = new ArrayList<>();
+			for (ArbitraryNode<?> selectNode : selectNodes) {
 				nextNodes.addAll(selectNode.findChildrenByCursor(cursor));
 			}
-			selectNodes.addAll(nextNodes);
-			nextNodes.clear();
+			selectNodes = nextNodes;
+		}
+		return selectNodes;
+	}
+
+	/**
+	 * Finds the nodes of given expression, a dirty or collapsed node is refreshed by {@code refresher}
+	 * before its children are searched. Nodes reset while searching could be taken by {@link #pollResetNodes()}.
+	 */
+	@API(since = "0.4.0", status = Status.EXPERIMENTAL)
+	@SuppressWarnings("rawtypes")
+	public Collection<ArbitraryNode> findAll(
+		ArbitraryExpression arbitraryExpression,
+		Consumer<ArbitraryNode<?>> refresher
+	) {
+		List<ArbitraryNode> selectNodes = new ArrayList<>();
+		List<Boolean> selectUnderReset = new ArrayList<>();
+		selectNodes.add(head);
+		selectUnderReset.add(false);
+		head.setManipulated(true);
+
+		List<Cursor> cursors = arbitraryExpression.toCursors();
+		for (Cursor cursor : cursors) {
+			if (isHeadName(cursor)) {
+				continue;
+			}
+
+			List<ArbitraryNode> nextNodes = new ArrayList<>();
+			List<Boolean> nextUnderReset = new ArrayList<>();
+			for (int i = 0; i < selectNodes.size(); i++) {
+				ArbitraryNode<?> selectNode = selectNodes.get(i);
+				if (selectNode.isCollapsed() && !isElementCursor(selectNode, cursor)) {
+					selectNode.expand();
+					removeDirtyNode(selectNode);
+					refresher.accept(selectNode);
+				} else {
+					refreshIfDirty(selectNode, refresher);
+					if (selectNode.isCollapsed()) {
+						materializeElement(selectNode, cursor.getIndex(), refresher);
+					}
+				}
+
+				boolean underReset = selectUnderReset.get(i);
+				for (ArbitraryNode child : selectNode.findChildrenByCursor(cursor)) {
+					if (child.isReset() && !underReset) {
+						resetNodes.add(child);
+					}
+					nextNodes.add(child);
+					nextUnderReset.add(underReset || child.isReset());
+				}
+			}
+			selectNodes = nextNodes;
+			selectUnderReset = nextUnderReset;
 		}
 		return selectNodes;
 	}
 
+	/**
+	 * Returns the outermost nodes reset by {@link #findAll(ArbitraryExpression, Consumer)} since the last poll,
+	 * they should be traversed again.
+	 */
+	@API(since = "0.4.0", status = Status.EXPERIMENTAL)
+	public List<ArbitraryNode<?>> pollResetNodes() {
+		List<ArbitraryNode<?>> polledNodes = new ArrayList<>();
+		for (ArbitraryNode<?> resetNode : resetNodes) {
+			if (resetNode.isReset()) {
+				resetNode.setReset(false);
+				removeDirtyNode(resetNode);
+				polledNodes.add(resetNode);
+			}
+		}
+		resetNodes.clear();
+		return polledNodes;
+	}
+
+	/**
+	 * Marks the node whose subtree should be traversed again, it is deferred until its children are searched
+	 * or {@link #refreshDirtyNodes(Consumer)} is called, so manipulating the same node again traverses once.
+	 */
+	@API(since = "0.4.0", status = Status.EXPERIMENTAL)
+	public void markDirty(ArbitraryNode<?> node) {
+		if (!isDirty(node)) {
+			dirtyNodes.add(node);
+		}
+	}
+
+	@API(since = "0.4.0", status = Status.EXPERIMENTAL)
+	public void refreshIfDirty(ArbitraryNode<?> node, Consumer<ArbitraryNode<?>> refresher) {
+		if (removeDirtyNode(node)) {
+			refresher.accept(node);
+		}
+	}
+
+	@API(since = "0.4.0", status = Status.EXPERIMENTAL)
+	public void refreshDirtyNodes(Consumer<ArbitraryNode<?>> refresher) {
+		while (!dirtyNodes.isEmpty()) {
+			refresher.accept(dirtyNodes.remove(0));
+		}
+	}
+
+	private boolean isDirty(ArbitraryNode<?> node) {
+		for (ArbitraryNode<?> dirtyNode : dirtyNodes) {
+			if (dirtyNode == node) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * An element of a collapsed container targeted by index is taken out of the template node,
+	 * the other elements are still drawn from the template node.
+	 */
+	@SuppressWarnings("rawtypes")
+	private boolean isElementCursor(ArbitraryNode<?> node, Cursor cursor) {
+		List<ArbitraryNode> children = node.getChildren();
+		if (children.isEmpty() || cursor.getIndex() == NO_OR_ALL_INDEX_INTEGER_VALUE) {
+			return false;
+		}
+
+		ArbitraryNode<?> templateNode = children.get(0);
+		return cursor.match(templateNode.getPropertyName(), cursor.getIndex());
+	}
+
+	@SuppressWarnings({"rawtypes", "unchecked"})
+	private void materializeElement(ArbitraryNode<?> node, int index, Consumer<ArbitraryNode<?>> refresher) {
+		List<ArbitraryNode> children = node.getChildren();
+		if (index >= node.getCollapsedElementSize()) {
+			return;
+		}
+
+		for (ArbitraryNode child : children) {
+			if (child.getIndexOfIterable() == index) {
+				return;
+			}
+		}
+
+		ArbitraryNode<?> templateNode = children.get(0);
+		ArbitraryNode<?> elementNode = ArbitraryNode.builder()
+			.type(templateNode.getType())
+			.propertyName(templateNode.getPropertyName())
+			.indexOfIterable(index)
+			.nullable(false)
+			.nullInject(0.f)
+			.build();
+		node.addChildNode(elementNode);
+		refresher.accept(elementNode);
+	}
+
+	/**
+	 * Every element of a collapsed container is drawn from its template node except the materialized elements.
+	 */
+	@SuppressWarnings("rawtypes")
+	private static List<ArbitraryNode> collapsedElementNodes(ArbitraryNode<?> node) {
+		List<ArbitraryNode> children = node.getChildren();
+		if (children.size() == 1) {
+			return Collections.nCopies(node.getCollapsedElementSize(), children.get(0));
+		}
+
+		ArbitraryNode[] elementNodes = new ArbitraryNode[node.getCollapsedElementSize()];
+		Arrays.fill(elementNodes, children.get(0));
+		for (int i = 1; i < children.size(); i++) {
+			ArbitraryNode child = children.get(i);
+			elementNodes[child.getIndexOfIterable()] = child;
+		}
+		return Arrays.asList(elementNodes);
+	}
+
+	@SuppressWarnings("rawtypes")
+	private static boolean isDrawnWhenConsumed(ArbitraryType<?> type, List<ArbitraryNode> elementNodes) {
+		return (type.isStream() || Iterator.class.isAssignableFrom(type.getType()))
+			&& elementNodes.size() >= COLLAPSED_ELEMENT_MIN_SIZE;
+	}
+
+	private boolean removeDirtyNode(ArbitraryNode<?> node) {
+		for (int i = 0; i < dirtyNodes.size(); i++) {
+			if (dirtyNodes.get(i) == node) {
+				dirtyNodes.remove(i);
+				return true;
+			}
+		}
+		return false;
+	}
+
 	private boolean isHeadName(Cursor cursor) {
 		return cursor instanceof ExpNameCursor && HEAD_NAME.equals(cursor.getName());
 	}
 
+	/**
+	 * Deprecated Use pollResetNodes instead, it does not search the whole tree.
+	 */
+	@Deprecated
 	@Nullable
 	public ArbitraryNode<?> findFirstResetNode() {
 		return doFindFirstResetNode(this.head);
@@ -94,26 +290,74 @@ public final class ArbitraryTree<T> {
 		return null;
 	}
 
+	/**
+	 * Returns whether traversing again would produce the same tree, so the arbitrary of this tree
+	 * could be reused for every sample instead of traversing per sample.
+	 */
+	public boolean isCompilable() {
+		return isCompilable(this.head);
+	}
+
+	@SuppressWarnings("rawtypes")
+	private boolean isCompilable(ArbitraryNode<?> node) {
+		LazyValue<?> value = node.getValue();
+		if (node.isDynamic() || (value != null && !value.isFixed())) {
+			return false;
+		}
+
+		for (ArbitraryNode child : node.getChildren()) {
+			if (!isCompilable(child)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
 	public void update(ArbitraryGenerator defaultGenerator, Map<Class<?>, ArbitraryGenerator> generatorMap) {
-		update(head, defaultGenerator, generatorMap);
+		update(head, defaultGenerator, generatorMap, null);
+	}
+
+	/**
+	 * Elements of a large stream or iterator are drawn when consumed, after the owning object is validated.
+	 * The given validator validates each of them as it is drawn, an invalid element is drawn again.
+	 */
+	@API(since = "0.4.0", status = Status.EXPERIMENTAL)
+	public void update(
+		ArbitraryGenerator defaultGenerator,
+		Map<Class<?>, ArbitraryGenerator> generatorMap,
+		@Nullable ArbitraryValidator elementValidator
+	) {
+		update(head, defaultGenerator, generatorMap, elementValidator);
 	}
 
+	@SuppressWarnings({"rawtypes", "unchecked"})
 	private <U> void update(
 		ArbitraryNode<U> entryNode,
 		ArbitraryGenerator defaultGenerator,
-		Map<Class<?>, ArbitraryGenerator> generatorMap
+		Map<Class<?>, ArbitraryGenerator> generatorMap,
+		@Nullable ArbitraryValidator elementValidator
 	) {
 
 		if (!entryNode.isLeafNode() && !entryNode.isFixed() && entryNode.isActive()) {
 			for (ArbitraryNode<?> nextChild : entryNode.getChildren()) {
-				update(nextChild, defaultGenerator, generatorMap);
+				update(nextChild, defaultGenerator, generatorMap, elementValidator);
 			}
 
 			Class<?> clazz = entryNode.getType().getType();
 			ArbitraryGenerator generator = getGenerator(clazz, defaultGenerator, generatorMap);
-			entryNode.setArbitrary(
-				generator.generate(entryNode.getType(), entryNode.getChildren())
-			);
+			List<ArbitraryNode> elementNodes = entryNode.getChildren();
+			if (entryNode.isCollapsed()) {
+				elementNodes = collapsedElementNodes(entryNode);
+			}
+			if (elementValidator != null && isDrawnWhenConsumed(entryNode.getType(), elementNodes)) {
+				// children are traversed again before every update, the filter is never added twice
+				for (ArbitraryNode child : entryNode.getChildren()) {
+					child.setArbitrary(child.getArbitrary().filter(
+						element -> element == null || elementValidator.findViolations(element).isEmpty()
+					));
+				}
+			}
+			entryNode.setArbitrary(generator.generate(entryNode.getType(), elementNodes));
 
 		}
 
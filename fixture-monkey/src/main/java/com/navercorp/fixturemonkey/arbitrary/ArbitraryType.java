@@ -36,6 +36,11 @@ import java.util.Optional;
 import java.util.stream.BaseStream;
 
 import javax.annotation.Nullable;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
 
 import com.navercorp.fixturemonkey.api.type.TypeReference;
 import com.navercorp.fixturemonkey.api.type.Types;
@@ -44,6 +49,8 @@ public class ArbitraryType<T> {
 	private final Class<T> type;
 	private final AnnotatedType annotatedType;
 	private final List<Annotation> annotations;
+	@Nullable
+	private volatile ArbitraryType<?>[] genericArbitraryTypes;
 
 	public ArbitraryType(Class<T> type, AnnotatedType annotatedType, List<Annotation> annotations) {
 		this.type = type;
@@ -82,8 +89,37 @@ public class ArbitraryType<T> {
 			.orElse(null);
 	}
 
+	/**
+	 * The generic type is resolved once per instance, a race only resolves the same type again.
+	 */
 	@SuppressWarnings("unchecked")
 	public <U> ArbitraryType<U> getGenericArbitraryType(int index) {
+		ArbitraryType<?>[] resolvedTypes = this.genericArbitraryTypes;
+		if (resolvedTypes == null) {
+			resolvedTypes = new ArbitraryType<?>[getGenericTypeCount()];
+			this.genericArbitraryTypes = resolvedTypes;
+		}
+
+		if (index < resolvedTypes.length && resolvedTypes[index] != null) {
+			return (ArbitraryType<U>)resolvedTypes[index];
+		}
+
+		ArbitraryType<U> genericArbitraryType = resolveGenericArbitraryType(index);
+		if (index < resolvedTypes.length) {
+			resolvedTypes[index] = genericArbitraryType;
+		}
+		return genericArbitraryType;
+	}
+
+	private int getGenericTypeCount() {
+		if (!(annotatedType instanceof AnnotatedParameterizedType)) {
+			return 0;
+		}
+		return ((AnnotatedParameterizedType)annotatedType).getAnnotatedActualTypeArguments().length;
+	}
+
+	@SuppressWarnings("unchecked")
+	private <U> ArbitraryType<U> resolveGenericArbitraryType(int index) {
 		Class<U> childClazz = (Class<U>)this.findGenericType(index)
 			.orElseThrow(() -> new IllegalArgumentException(index + "th childClazz not exists"));
 		AnnotatedType childAnnotatedType = this.findGenericAnnotatedType(index)
@@ -185,6 +221,36 @@ public class ArbitraryType<T> {
 		return annotatedType;
 	}
 
+	/**
+	 * Returns the number of distinct non-null values of the type,
+	 * null if it is not known or does not fit in a long.
+	 * It is known for enums, booleans, and integral types annotated with both {@link Min} and {@link Max}.
+	 */
+	@API(since = "0.4.0", status = Status.EXPERIMENTAL)
+	@Nullable
+	public Long getDomainSize() {
+		if (isEnum()) {
+			return (long)type.getEnumConstants().length;
+		} else if (type == boolean.class || type == Boolean.class) {
+			return 2L;
+		} else if (type == int.class || type == Integer.class || type == long.class || type == Long.class
+			|| type == short.class || type == Short.class || type == byte.class || type == Byte.class
+		) {
+			Min min = getAnnotation(Min.class);
+			Max max = getAnnotation(Max.class);
+			if (min == null || max == null || min.value() > max.value()) {
+				return null;
+			}
+
+			try {
+				return Math.addExact(Math.subtractExact(max.value(), min.value()), 1L);
+			} catch (ArithmeticException ex) {
+				return null; // wider than a long, regarded as unbounded
+			}
+		}
+		return null;
+	}
+
 	private Optional<AnnotatedType> findGenericAnnotatedType(int index) {
 		if (annotatedType == null) {
 			return Optional.empty();
@@ -20,9 +20,11 @@ package com.navercorp.fixturemonkey.arbitrary;
 
 import java.util.Map;
 import java.util.Random;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
+import javax.annotation.Nullable;
 import javax.validation.ConstraintViolation;
 import javax.validation.ConstraintViolationException;
 
@@ -69,7 +71,9 @@ public final class ArbitraryValue<T> implements Arbitrary<T> {
 		@SuppressWarnings("rawtypes")
 		private final Map<String, ConstraintViolation> violations;
 		private final Logger log = LoggerFactory.getLogger(this.getClass());
-		private Exception lastException;
+		private volatile Set<? extends ConstraintViolation<?>> lastViolations;
+		@Nullable
+		private volatile ReusableGenerator<T> reusableGenerator;
 
 		@SuppressWarnings("rawtypes")
 		private MonkeyRandomGenerator(
@@ -88,9 +92,7 @@ public final class ArbitraryValue<T> implements Arbitrary<T> {
 		@Override
 		public Shrinkable<T> next(Random random) {
 			try {
-				return getArbitrary()
-					.filter((Predicate<T>)this.validateFilter(validOnly))
-					.generator(1000).next(random);
+				return getGenerator().next(random);
 			} catch (TooManyFilterMissesException ex) {
 				StringBuilder builder = new StringBuilder();
 				this.violations.values().forEach(violation -> builder
@@ -100,8 +102,10 @@ public final class ArbitraryValue<T> implements Arbitrary<T> {
 					.append(", invalidValue: ").append(violation.getInvalidValue())
 					.append("\n"));
 
+				Set<? extends ConstraintViolation<?>> lastViolations = this.lastViolations;
 				log.error("Fail to create valid arbitrary."
-					+ "\n\nFixture factory Constraint Violation messages. \n\n" + builder, lastException);
+						+ "\n\nFixture factory Constraint Violation messages. \n\n" + builder,
+					lastViolations == null ? null : new ConstraintViolationException(lastViolations));
 
 				throw ex;
 			}
@@ -118,24 +122,54 @@ public final class ArbitraryValue<T> implements Arbitrary<T> {
 					return true;
 				}
 
-				try {
-					validator.validate(fixture);
+				Set<? extends ConstraintViolation<?>> violations = validator.findViolations(fixture);
+				if (violations.isEmpty()) {
 					return true;
-				} catch (ConstraintViolationException ex) {
-					ex.getConstraintViolations().forEach(violation ->
-						this.violations.put(
-							violation.getRootBeanClass().getName() + violation.getPropertyPath(),
-							violation
-						)
-					);
-					this.lastException = ex;
 				}
+
+				violations.forEach(violation ->
+					this.violations.put(
+						violation.getRootBeanClass().getName() + violation.getPropertyPath(),
+						violation
+					)
+				);
+				this.lastViolations = violations;
 				return false;
 			};
 		}
 
-		private synchronized Arbitrary<T> getArbitrary() {
+		/**
+		 * Returns the generator of the arbitrary, reused while the same arbitrary is given,
+		 * which happens if the arbitrary is compiled once and reused for every sample.
+		 */
+		@SuppressWarnings("unchecked")
+		private RandomGenerator<T> getGenerator() {
+			Arbitrary<T> arbitrary = getArbitrary();
+			ReusableGenerator<T> reusable = this.reusableGenerator;
+			if (reusable != null && reusable.arbitrary == arbitrary) {
+				return reusable.generator;
+			}
+
+			RandomGenerator<T> generator = arbitrary
+				.filter((Predicate<T>)this.validateFilter(validOnly))
+				.generator(1000);
+			this.reusableGenerator = new ReusableGenerator<>(arbitrary, generator);
+			return generator;
+		}
+
+		// generateArbitrary should be thread-safe, samples are not serialized here
+		private Arbitrary<T> getArbitrary() {
 			return generateArbitrary.get();
 		}
 	}
+
+	private static final class ReusableGenerator<T> {
+		private final Arbitrary<T> arbitrary;
+		private final RandomGenerator<T> generator;
+
+		private ReusableGenerator(Arbitrary<T> arbitrary, RandomGenerator<T> generator) {
+			this.arbitrary = arbitrary;
+			this.generator = generator;
+		}
+	}
 }
@@ -32,5 +32,14 @@ public interface BuilderManipulator {
 		return true;
 	}
 
+	/**
+	 * Returns whether applying this manipulator gives the same result every time,
+	 * a limited manipulator is not reusable since it is applied only a limited number of times.
+	 */
+	@API(since = "0.4.0", status = Status.EXPERIMENTAL)
+	default boolean isReusable() {
+		return true;
+	}
+
 	BuilderManipulator copy();
 }
@@ -33,9 +33,11 @@ abstract class Cursor { // TODO: matcher를 구현하도록 수정
 	}
 
 	public boolean match(Cursor cursor) {
-		boolean sameName = nameEquals(cursor.getName());
-		boolean sameIndex = indexEquals(cursor.getIndex());
-		return sameName && sameIndex;
+		return match(cursor.getName(), cursor.getIndex());
+	}
+
+	boolean match(String name, int index) {
+		return nameEquals(name) && indexEquals(index);
 	}
 
 	private boolean indexEquals(int index) {
@@ -18,19 +18,26 @@
 
 package com.navercorp.fixturemonkey.arbitrary;
 
+import static com.navercorp.fixturemonkey.Constants.COLLAPSED_ELEMENT_MIN_SIZE;
+
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.Set;
 import java.util.stream.Stream;
 
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.Size;
+
 import net.jqwik.api.Arbitraries;
 
 import com.navercorp.fixturemonkey.generator.FieldNameResolver;
 
 public class DefaultContainerArbitraryNodeGenerator implements ContainerArbitraryNodeGenerator {
 	public static final DefaultContainerArbitraryNodeGenerator INSTANCE = new DefaultContainerArbitraryNodeGenerator();
+	private static final int COLLAPSED_TEMPLATE_INDEX = -1; // never matches an index of expression
 
 	@Override
 	public <T> List<ArbitraryNode<?>> generate(ArbitraryNode<T> containerNode) {
@@ -44,6 +51,13 @@ public class DefaultContainerArbitraryNodeGenerator implements ContainerArbitrar
 		List<ArbitraryNode<?>> generatedNodeList = new ArrayList<>();
 
 		int elementSize = containerNode.getElementSize();
+		if (lazyValue == null && isDefaultSetSize(containerNode)) {
+			// a default size larger than the distinct values of the element would never be generated
+			Long domainSize = elementType.getDomainSize();
+			if (domainSize != null && domainSize < elementSize) {
+				elementSize = domainSize.intValue();
+			}
+		}
 
 		if (lazyValue != null) {
 			if (lazyValue.isEmpty()) {
@@ -74,6 +88,23 @@ public class DefaultContainerArbitraryNodeGenerator implements ContainerArbitrar
 			}
 		}
 
+		if (lazyValue == null && !containerNode.isExpanded() && elementSize >= COLLAPSED_ELEMENT_MIN_SIZE) {
+			// elements are drawn from one template node, an element is materialized only when targeted by index
+			@SuppressWarnings("unchecked")
+			ArbitraryNode<?> templateNode = ArbitraryNode.builder()
+				.type(elementType)
+				.propertyName(propertyName)
+				.indexOfIterable(COLLAPSED_TEMPLATE_INDEX)
+				.nullable(false)
+				.nullInject(0.f)
+				.build();
+			generatedNodeList.add(templateNode);
+			containerNode.setCollapsed(true);
+			containerNode.setCollapsedElementSize(elementSize);
+			containerNode.setContainerSizeConstraint(null); // clear
+			return generatedNodeList;
+		}
+
 		if (lazyValue == null || !containerNode.isNotSetContainerSize()) {
 			for (int i = currentIndex; i < elementSize; i++) {
 				@SuppressWarnings("unchecked")
@@ -104,6 +135,14 @@ public class DefaultContainerArbitraryNodeGenerator implements ContainerArbitrar
 		return this.generate(nowNode);
 	}
 
+	private static boolean isDefaultSetSize(ArbitraryNode<?> containerNode) {
+		ArbitraryType<?> type = containerNode.getType();
+		return Set.class.isAssignableFrom(type.getType())
+			&& containerNode.isNotSetContainerSize()
+			&& type.getAnnotation(Size.class) == null
+			&& type.getAnnotation(NotEmpty.class) == null;
+	}
+
 	@SuppressWarnings("unchecked")
 	private <T, U> Iterator<U> toIterator(T value) {
 		if (value instanceof Collection) {
@@ -56,6 +56,10 @@ public class LazyValue<T> {
 		return value;
 	}
 
+	public boolean isFixed() {
+		return fixed;
+	}
+
 	public boolean isEmpty() {
 		return get() == null;
 	}
@@ -72,6 +72,6 @@ public class OptionalArbitraryNodeGenerator implements ContainerArbitraryNodeGen
 
 		Optional<U> optional = ((Optional<U>)value);
 		U nextObject = optional.orElse(null);
-		return new LazyValue<>(() -> nextObject);
+		return new LazyValue<>(nextObject);
 	}
 }
@@ -0,0 +1,120 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.arbitrary;
+
+import java.lang.reflect.Array;
+import java.util.Random;
+
+import javax.annotation.Nullable;
+
+import net.jqwik.api.Arbitraries;
+import net.jqwik.api.Arbitrary;
+import net.jqwik.api.RandomGenerator;
+
+/**
+ * Generates a primitive array directly from the element arbitrary, without a node per element.
+ */
+final class PrimitiveArrays {
+	private PrimitiveArrays() {
+	}
+
+	@SuppressWarnings("unchecked")
+	static <T> Arbitrary<T> arbitrary(
+		Class<?> componentType,
+		Arbitrary<?> elementArbitrary,
+		ContainerSizeConstraint sizeConstraint
+	) {
+		PrimitiveArrayGenerator generator = new PrimitiveArrayGenerator(
+			componentType,
+			elementArbitrary,
+			sizeConstraint.getMinSize(),
+			sizeConstraint.getMaxSize()
+		);
+		return (Arbitrary<T>)Arbitraries.randomValue(generator::next);
+	}
+
+	private static final class PrimitiveArrayGenerator {
+		private final Class<?> componentType;
+		private final Arbitrary<?> elementArbitrary;
+		private final int minSize;
+		private final int maxSize;
+		@Nullable
+		private volatile RandomGenerator<?> elementGenerator;
+
+		private PrimitiveArrayGenerator(
+			Class<?> componentType,
+			Arbitrary<?> elementArbitrary,
+			int minSize,
+			int maxSize
+		) {
+			this.componentType = componentType;
+			this.elementArbitrary = elementArbitrary;
+			this.minSize = minSize;
+			this.maxSize = maxSize;
+		}
+
+		private Object next(Random random) {
+			// same distribution as ContainerSizeConstraint#getArbitraryElementSize
+			int size = maxSize > minSize ? minSize + random.nextInt(maxSize - minSize) : minSize;
+			RandomGenerator<?> generator = getElementGenerator();
+
+			if (componentType == byte.class) {
+				byte[] array = new byte[size];
+				for (int i = 0; i < size; i++) {
+					array[i] = (Byte)generator.next(random).value();
+				}
+				return array;
+			} else if (componentType == int.class) {
+				int[] array = new int[size];
+				for (int i = 0; i < size; i++) {
+					array[i] = (Integer)generator.next(random).value();
+				}
+				return array;
+			} else if (componentType == long.class) {
+				long[] array = new long[size];
+				for (int i = 0; i < size; i++) {
+					array[i] = (Long)generator.next(random).value();
+				}
+				return array;
+			} else if (componentType == double.class) {
+				double[] array = new double[size];
+				for (int i = 0; i < size; i++) {
+					array[i] = (Double)generator.next(random).value();
+				}
+				return array;
+			}
+
+			Object array = Array.newInstance(componentType, size);
+			for (int i = 0; i < size; i++) {
+				Array.set(array, i, generator.next(random).value());
+			}
+			return array;
+		}
+
+		// generators are stateless, creating it twice on a race is harmless
+		private RandomGenerator<?> getElementGenerator() {
+			RandomGenerator<?> generator = this.elementGenerator;
+			if (generator == null) {
+				generator = elementArbitrary.generator(1000);
+				this.elementGenerator = generator;
+			}
+			return generator;
+		}
+	}
+}
@@ -0,0 +1,79 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.arbitrary;
+
+import static com.navercorp.fixturemonkey.TypeSupports.extractFields;
+import static java.util.stream.Collectors.collectingAndThen;
+import static java.util.stream.Collectors.toList;
+
+import java.lang.reflect.Field;
+import java.util.Collections;
+import java.util.List;
+
+import com.navercorp.fixturemonkey.api.property.FieldProperty;
+import com.navercorp.fixturemonkey.api.type.Types;
+
+/**
+ * Structural information of a field, resolved once per class and shared by every traversal.
+ * It does not depend on any option, options are applied by {@link ArbitraryTraverser}.
+ */
+final class TraversableField {
+	private static final ClassValue<List<TraversableField>> TRAVERSABLE_FIELDS =
+		new ClassValue<List<TraversableField>>() {
+			@Override
+			protected List<TraversableField> computeValue(Class<?> type) {
+				return extractFields(type).stream()
+					.map(TraversableField::new)
+					.collect(collectingAndThen(toList(), Collections::unmodifiableList));
+			}
+		};
+
+	private final Field field;
+	private final FieldProperty property;
+	@SuppressWarnings("rawtypes")
+	private final ArbitraryType arbitraryType;
+
+	@SuppressWarnings({"rawtypes", "unchecked"})
+	private TraversableField(Field field) {
+		this.field = field;
+		this.property = new FieldProperty(field);
+		this.arbitraryType = new ArbitraryType(
+			Types.getActualType(property.getType()),
+			property.getAnnotatedType(),
+			property.getAnnotations()
+		);
+	}
+
+	static List<TraversableField> of(Class<?> clazz) {
+		return TRAVERSABLE_FIELDS.get(clazz);
+	}
+
+	Field getField() {
+		return field;
+	}
+
+	FieldProperty getProperty() {
+		return property;
+	}
+
+	@SuppressWarnings("rawtypes")
+	ArbitraryType getArbitraryType() {
+		return arbitraryType;
+	}
+}
@@ -0,0 +1,55 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.generator;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * Creates the accessors generators use to instantiate objects and to set their properties.
+ */
+@API(since = "0.4.0", status = Status.EXPERIMENTAL)
+public interface AccessorFactory {
+	/**
+	 * Returns an instantiator which calls the no-argument constructor of {@code type}.
+	 */
+	<T> Supplier<T> instantiator(Class<T> type);
+
+	<T> Function<Object[], T> instantiator(Constructor<T> constructor);
+
+	BiConsumer<Object, Object> setter(Field field);
+
+	/**
+	 * Returns an invoker of a method without parameters, the target is ignored if {@code method} is static.
+	 */
+	Function<Object, Object> noArgumentInvoker(Method method);
+
+	/**
+	 * Returns an invoker of a method with a single parameter, it returns {@code null} if {@code method} is void.
+	 */
+	BiFunction<Object, Object, Object> singleArgumentInvoker(Method method);
+}
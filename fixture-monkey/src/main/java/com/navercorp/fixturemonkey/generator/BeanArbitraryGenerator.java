@@ -22,15 +22,15 @@ import java.beans.IntrospectionException;
 import java.beans.Introspector;
 import java.beans.PropertyDescriptor;
 import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.BiFunction;
 
 import org.junit.platform.commons.logging.Logger;
 import org.junit.platform.commons.logging.LoggerFactory;
-import org.junit.platform.commons.util.ReflectionUtils;
 
 import net.jqwik.api.Arbitraries;
 import net.jqwik.api.Arbitrary;
@@ -47,17 +47,31 @@ import com.navercorp.fixturemonkey.customizer.WithFixtureCustomizer;
 public final class BeanArbitraryGenerator extends AbstractArbitraryGenerator
 	implements WithFixtureCustomizer {
 	public static final BeanArbitraryGenerator INSTANCE = new BeanArbitraryGenerator();
-	private final Logger log = LoggerFactory.getLogger(this.getClass());
+	private static final Logger LOGGER = LoggerFactory.getLogger(BeanArbitraryGenerator.class);
+	// ClassValue does not keep the class reachable, so classes of a discarded ClassLoader can be unloaded
+	private static final ClassValue<Map<String, Method>> WRITE_METHODS = new ClassValue<Map<String, Method>>() {
+		@Override
+		protected Map<String, Method> computeValue(Class<?> type) {
+			return getWriteMethodsByName(type);
+		}
+	};
+
 	private final ArbitraryCustomizers arbitraryCustomizers;
+	private final AccessorFactory accessorFactory;
 
 	private final PropertyNameResolver propertyNameResolver = PropertyNameResolver.IDENTITY;
 
 	public BeanArbitraryGenerator() {
-		this(new ArbitraryCustomizers());
+		this(MethodHandleAccessorFactory.INSTANCE);
+	}
+
+	public BeanArbitraryGenerator(AccessorFactory accessorFactory) {
+		this(new ArbitraryCustomizers(), accessorFactory);
 	}
 
-	private BeanArbitraryGenerator(ArbitraryCustomizers arbitraryCustomizers) {
+	private BeanArbitraryGenerator(ArbitraryCustomizers arbitraryCustomizers, AccessorFactory accessorFactory) {
 		this.arbitraryCustomizers = arbitraryCustomizers;
+		this.accessorFactory = accessorFactory;
 	}
 
 	@SuppressWarnings({"rawtypes", "unchecked"})
@@ -74,20 +88,23 @@ public final class BeanArbitraryGenerator extends AbstractArbitraryGenerator
 
 		this.arbitraryCustomizers.customizeFields(clazz, fieldArbitraries);
 
-		Map<String, PropertyDescriptor> propertyDescriptorMap = this.getPropertyDescriptorsByName(clazz);
-		BuilderCombinator builderCombinator = Builders.withBuilder(() -> ReflectionUtils.newInstance(clazz));
+		Map<String, Method> writeMethods = WRITE_METHODS.get(clazz);
+		BuilderCombinator builderCombinator = Builders.withBuilder(this.accessorFactory.instantiator(clazz));
 		for (Map.Entry<String, Arbitrary> entry : fieldArbitraries.entrySet()) {
 			String fieldName = entry.getKey();
-			PropertyDescriptor propertyDescriptor = propertyDescriptorMap.get(fieldName);
-			if (propertyDescriptor != null && propertyDescriptor.getWriteMethod() != null) {
-				Method writeMethod = propertyDescriptor.getWriteMethod();
+			Method writeMethod = writeMethods.get(fieldName);
+			if (writeMethod != null) {
+				BiFunction<Object, Object, Object> setter = this.accessorFactory.singleArgumentInvoker(writeMethod);
 				builderCombinator = builderCombinator.use(entry.getValue()).in((b, v) -> {
 					try {
 						if (v != null) {
-							writeMethod.invoke(b, v);
+							setter.apply(b, v);
 						}
-					} catch (IllegalAccessException | InvocationTargetException e) {
-						log.warn(e,
+					} catch (RuntimeException | Error e) {
+						throw e;
+					} catch (Throwable e) {
+						// the invoker rethrows checked exceptions of the setter unchecked
+						LOGGER.warn(e,
 							() -> "set bean property is failed. field: " + fieldName + " value: " + v
 						);
 					}
@@ -109,21 +126,24 @@ public final class BeanArbitraryGenerator extends AbstractArbitraryGenerator
 		if (this.arbitraryCustomizers == arbitraryCustomizers) {
 			return this;
 		}
-		return new BeanArbitraryGenerator(arbitraryCustomizers);
+		return new BeanArbitraryGenerator(arbitraryCustomizers, accessorFactory);
 	}
 
-	private Map<String, PropertyDescriptor> getPropertyDescriptorsByName(Class<?> clazz) {
-		Map<String, PropertyDescriptor> result = new HashMap<>();
+	private static Map<String, Method> getWriteMethodsByName(Class<?> clazz) {
+		Map<String, Method> result = new HashMap<>();
 		try {
 			PropertyDescriptor[] descriptors = Introspector.getBeanInfo(clazz)
 				.getPropertyDescriptors();
 			for (PropertyDescriptor descriptor : descriptors) {
-				result.put(descriptor.getName(), descriptor);
+				Method writeMethod = descriptor.getWriteMethod();
+				if (writeMethod != null) {
+					result.put(descriptor.getName(), writeMethod);
+				}
 			}
 		} catch (IntrospectionException e) {
-			log.warn(e, () -> "Introspect bean property is failed. type: " + clazz);
+			LOGGER.warn(e, () -> "Introspect bean property is failed. type: " + clazz);
 		}
 
-		return result;
+		return Collections.unmodifiableMap(result);
 	}
 }
@@ -25,6 +25,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
+import java.util.function.Function;
 
 import org.junit.platform.commons.util.ReflectionUtils;
 
@@ -47,6 +48,7 @@ public final class BuilderArbitraryGenerator extends AbstractArbitraryGenerator
 	private static final Map<Class<?>, Class<?>> BUILDER_TYPE_CACHE = new ConcurrentHashMap<>();
 
 	private final ArbitraryCustomizers arbitraryCustomizers;
+	private final AccessorFactory accessorFactory;
 	private String defaultBuildMethodName = "build";
 	private String defaultBuilderMethodName = "builder";
 	private final Map<Class<?>, String> typedBuilderMethodName = new ConcurrentHashMap<>();
@@ -55,11 +57,16 @@ public final class BuilderArbitraryGenerator extends AbstractArbitraryGenerator
 	private final PropertyNameResolver propertyNameResolver = PropertyNameResolver.IDENTITY;
 
 	public BuilderArbitraryGenerator() {
-		this(new ArbitraryCustomizers());
+		this(MethodHandleAccessorFactory.INSTANCE);
 	}
 
-	private BuilderArbitraryGenerator(ArbitraryCustomizers arbitraryCustomizers) {
+	public BuilderArbitraryGenerator(AccessorFactory accessorFactory) {
+		this(new ArbitraryCustomizers(), accessorFactory);
+	}
+
+	private BuilderArbitraryGenerator(ArbitraryCustomizers arbitraryCustomizers, AccessorFactory accessorFactory) {
 		this.arbitraryCustomizers = arbitraryCustomizers;
+		this.accessorFactory = accessorFactory;
 	}
 
 	private static void clearMethodCache() {
@@ -81,10 +88,9 @@ public final class BuilderArbitraryGenerator extends AbstractArbitraryGenerator
 		this.arbitraryCustomizers.customizeFields(clazz, fieldArbitraries);
 		this.arbitraryCustomizers.customizeBuilderFields(clazz, fieldArbitraries);
 
-		Method builderMethod = BUILDER_CACHE.get(clazz);
+		Function<Object, Object> builderInvoker = this.accessorFactory.noArgumentInvoker(BUILDER_CACHE.get(clazz));
 		Class<?> builderType = this.getBuilderType(clazz);
-		BuilderCombinator builderCombinator = Builders.withBuilder(() ->
-			ReflectionUtils.invokeMethod(builderMethod, null));
+		BuilderCombinator builderCombinator = Builders.withBuilder(() -> builderInvoker.apply(null));
 
 		for (Map.Entry<String, Arbitrary> entry : fieldArbitraries.entrySet()) {
 			String methodName = entry.getKey();
@@ -103,8 +109,9 @@ public final class BuilderArbitraryGenerator extends AbstractArbitraryGenerator
 			});
 
 			if (method != null) {
+				BiFunction<Object, Object, Object> invoker = this.accessorFactory.singleArgumentInvoker(method);
 				builderCombinator = builderCombinator.use(entry.getValue())
-					.in((b, v) -> v != null ? ReflectionUtils.invokeMethod(method, b, v) : b);
+					.in((b, v) -> v != null ? invoker.apply(b, v) : b);
 			}
 		}
 
@@ -122,12 +129,13 @@ public final class BuilderArbitraryGenerator extends AbstractArbitraryGenerator
 			method.setAccessible(true);
 			return method;
 		});
+		Function<Object, Object> buildInvoker = this.accessorFactory.noArgumentInvoker(buildMethod);
 		return builderCombinator.build(b -> {
 			b = this.arbitraryCustomizers.customizeBuilder(clazz, b);
 			if (b == null) {
 				return null;
 			}
-			T fixture = (T)ReflectionUtils.invokeMethod(buildMethod, b);
+			T fixture = (T)buildInvoker.apply(b);
 			return this.arbitraryCustomizers.customizeFixture(clazz, fixture);
 		});
 	}
@@ -191,6 +199,6 @@ public final class BuilderArbitraryGenerator extends AbstractArbitraryGenerator
 			return this;
 		}
 
-		return new BuilderArbitraryGenerator(arbitraryCustomizers);
+		return new BuilderArbitraryGenerator(arbitraryCustomizers, accessorFactory);
 	}
 }
@@ -26,8 +26,7 @@ import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-
-import org.junit.platform.commons.util.ReflectionUtils;
+import java.util.function.Function;
 
 import net.jqwik.api.Arbitrary;
 import net.jqwik.api.Builders;
@@ -44,15 +43,24 @@ public final class ConstructorPropertiesArbitraryGenerator extends AbstractArbit
 	public static final ConstructorPropertiesArbitraryGenerator INSTANCE =
 		new ConstructorPropertiesArbitraryGenerator();
 	private final ArbitraryCustomizers arbitraryCustomizers;
+	private final AccessorFactory accessorFactory;
 
 	private final PropertyNameResolver propertyNameResolver = PropertyNameResolver.IDENTITY;
 
 	public ConstructorPropertiesArbitraryGenerator() {
-		this(new ArbitraryCustomizers());
+		this(MethodHandleAccessorFactory.INSTANCE);
+	}
+
+	public ConstructorPropertiesArbitraryGenerator(AccessorFactory accessorFactory) {
+		this(new ArbitraryCustomizers(), accessorFactory);
 	}
 
-	private ConstructorPropertiesArbitraryGenerator(ArbitraryCustomizers arbitraryCustomizers) {
+	private ConstructorPropertiesArbitraryGenerator(
+		ArbitraryCustomizers arbitraryCustomizers,
+		AccessorFactory accessorFactory
+	) {
 		this.arbitraryCustomizers = arbitraryCustomizers;
+		this.accessorFactory = accessorFactory;
 	}
 
 	@SuppressWarnings({"rawtypes", "unchecked"})
@@ -100,8 +108,9 @@ public final class ConstructorPropertiesArbitraryGenerator extends AbstractArbit
 			});
 		}
 
+		Function<Object[], T> instantiator = this.accessorFactory.instantiator(constructor);
 		return builderCombinator.build(list -> {
-			T fixture = ReflectionUtils.newInstance(constructor, list.toArray());
+			T fixture = instantiator.apply(list.toArray());
 			return this.arbitraryCustomizers.customizeFixture(clazz, fixture);
 		});
 	}
@@ -116,6 +125,6 @@ public final class ConstructorPropertiesArbitraryGenerator extends AbstractArbit
 		if (this.arbitraryCustomizers == arbitraryCustomizers) {
 			return this;
 		}
-		return new ConstructorPropertiesArbitraryGenerator(arbitraryCustomizers);
+		return new ConstructorPropertiesArbitraryGenerator(arbitraryCustomizers, accessorFactory);
 	}
 }
@@ -23,6 +23,7 @@ import java.lang.reflect.Modifier;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
 
 import org.junit.platform.commons.logging.Logger;
 import org.junit.platform.commons.logging.LoggerFactory;
@@ -47,15 +48,24 @@ public final class FieldReflectionArbitraryGenerator extends AbstractArbitraryGe
 	private static final Map<String, Field> TYPE_FIELD_CACHE = new ConcurrentHashMap<>();
 	private final Logger log = LoggerFactory.getLogger(this.getClass());
 	private final ArbitraryCustomizers arbitraryCustomizers;
+	private final AccessorFactory accessorFactory;
 
 	private final PropertyNameResolver propertyNameResolver = PropertyNameResolver.IDENTITY;
 
 	public FieldReflectionArbitraryGenerator() {
-		this(new ArbitraryCustomizers());
+		this(MethodHandleAccessorFactory.INSTANCE);
 	}
 
-	private FieldReflectionArbitraryGenerator(ArbitraryCustomizers arbitraryCustomizers) {
+	public FieldReflectionArbitraryGenerator(AccessorFactory accessorFactory) {
+		this(new ArbitraryCustomizers(), accessorFactory);
+	}
+
+	private FieldReflectionArbitraryGenerator(
+		ArbitraryCustomizers arbitraryCustomizers,
+		AccessorFactory accessorFactory
+	) {
 		this.arbitraryCustomizers = arbitraryCustomizers;
+		this.accessorFactory = accessorFactory;
 	}
 
 	@SuppressWarnings({"unchecked", "rawtypes"})
@@ -72,7 +82,7 @@ public final class FieldReflectionArbitraryGenerator extends AbstractArbitraryGe
 
 		this.arbitraryCustomizers.customizeFields(clazz, fieldArbitraries);
 
-		BuilderCombinator builderCombinator = Builders.withBuilder(() -> ReflectionUtils.newInstance(clazz));
+		BuilderCombinator builderCombinator = Builders.withBuilder(this.accessorFactory.instantiator(clazz));
 		for (Map.Entry<String, Arbitrary> entry : fieldArbitraries.entrySet()) {
 			String fieldName = entry.getKey();
 			String fieldKey = clazz.getName() + "#" + fieldName;
@@ -92,12 +102,16 @@ public final class FieldReflectionArbitraryGenerator extends AbstractArbitraryGe
 				continue;
 			}
 
+			BiConsumer<Object, Object> setter = this.accessorFactory.setter(field);
 			builderCombinator = builderCombinator.use(entry.getValue()).in((object, value) -> {
 				try {
 					if (value != null) {
-						field.set(object, value);
+						setter.accept(object, value);
 					}
-				} catch (IllegalAccessException e) {
+				} catch (RuntimeException | Error e) {
+					throw e;
+				} catch (Throwable e) {
+					// the setter rethrows checked reflection failures unchecked
 					log.warn(e,
 						() -> "set field by reflection is failed. field: " + fieldName + " value: " + value
 					);
@@ -120,6 +134,6 @@ public final class FieldReflectionArbitraryGenerator extends AbstractArbitraryGe
 			return this;
 		}
 
-		return new FieldReflectionArbitraryGenerator(arbitraryCustomizers);
+		return new FieldReflectionArbitraryGenerator(arbitraryCustomizers, accessorFactory);
 	}
 }
@@ -18,17 +18,28 @@
 
 package com.navercorp.fixturemonkey.generator;
 
+import static com.navercorp.fixturemonkey.Constants.COLLAPSED_ELEMENT_MIN_SIZE;
+
 import java.util.List;
+import java.util.stream.Stream;
 
 import net.jqwik.api.Arbitrary;
 
 import com.navercorp.fixturemonkey.arbitrary.ArbitraryNode;
 
+/**
+ * An iterator of {@link com.navercorp.fixturemonkey.Constants#COLLAPSED_ELEMENT_MIN_SIZE} or more elements
+ * draws its elements when consumed, after the owning object is validated.
+ * Each of those elements is validated when drawn, see {@link com.navercorp.fixturemonkey.arbitrary.ArbitraryTree}.
+ */
 final class IteratorBuilder {
 	public static IteratorBuilder INSTANCE = new IteratorBuilder();
 
 	@SuppressWarnings({"rawtypes", "unchecked"})
 	<T> Arbitrary<T> build(List<ArbitraryNode> nodes) {
+		if (nodes.size() >= COLLAPSED_ELEMENT_MIN_SIZE) {
+			return (Arbitrary<T>)LazyElementStream.arbitrary(nodes).map(Stream::iterator);
+		}
 		return (Arbitrary<T>)ListBuilder.INSTANCE.build(nodes).map(it -> ((List)it).listIterator());
 	}
 }
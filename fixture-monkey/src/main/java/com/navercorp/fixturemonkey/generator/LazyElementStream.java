@@ -0,0 +1,79 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.generator;
+
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import javax.annotation.Nullable;
+
+import net.jqwik.api.Arbitraries;
+import net.jqwik.api.Arbitrary;
+import net.jqwik.api.RandomGenerator;
+
+import com.navercorp.fixturemonkey.api.random.Randoms;
+import com.navercorp.fixturemonkey.arbitrary.ArbitraryNode;
+
+/**
+ * Generates a stream drawing each element when it is consumed, no element is generated before.
+ * Elements of a collapsed container share one template node, so a large stream is consumed in constant memory.
+ * Elements are drawn after the owning object is validated, so the element arbitraries validate each of them.
+ */
+final class LazyElementStream {
+	private LazyElementStream() {
+	}
+
+	@SuppressWarnings("rawtypes")
+	static Arbitrary<Stream<Object>> arbitrary(List<ArbitraryNode> nodes) {
+		int size = nodes.size();
+		return Arbitraries.randomValue(random -> {
+			long seed = random.nextLong();
+			// 0L is not an allowed seed value
+			ElementDrawer drawer = new ElementDrawer(nodes, Randoms.newRandom(seed == 0L ? 1L : seed));
+			return IntStream.range(0, size).mapToObj(drawer::draw);
+		});
+	}
+
+	@SuppressWarnings("rawtypes")
+	private static final class ElementDrawer {
+		private final List<ArbitraryNode> nodes;
+		private final Random random;
+		@Nullable
+		private Arbitrary<?> lastArbitrary;
+		@Nullable
+		private RandomGenerator<?> lastGenerator;
+
+		private ElementDrawer(List<ArbitraryNode> nodes, Random random) {
+			this.nodes = nodes;
+			this.random = random;
+		}
+
+		// consecutive elements drawn from the same template reuse its generator
+		private Object draw(int index) {
+			Arbitrary<?> arbitrary = nodes.get(index).getArbitrary();
+			if (arbitrary != lastArbitrary) {
+				lastArbitrary = arbitrary;
+				lastGenerator = arbitrary.generator(1000);
+			}
+			return lastGenerator.next(random).value();
+		}
+	}
+}
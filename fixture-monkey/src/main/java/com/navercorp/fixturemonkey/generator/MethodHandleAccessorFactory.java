@@ -0,0 +1,181 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.generator;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.junit.platform.commons.util.ExceptionUtils;
+import org.junit.platform.commons.util.ReflectionUtils;
+
+/**
+ * Creates accessors backed by {@link MethodHandle}s, cached per member.
+ * Members which can not be unreflected fall back to {@link ReflectionAccessorFactory}.
+ */
+@API(since = "0.4.0", status = Status.EXPERIMENTAL)
+public final class MethodHandleAccessorFactory implements AccessorFactory {
+	public static final MethodHandleAccessorFactory INSTANCE = new MethodHandleAccessorFactory();
+
+	private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+	private static final MethodType NO_ARGUMENT_CONSTRUCTOR_TYPE = MethodType.methodType(Object.class);
+	private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class, Object[].class);
+	private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+	private static final MethodType NO_ARGUMENT_INVOKER_TYPE = MethodType.methodType(Object.class, Object.class);
+	private static final MethodType SINGLE_ARGUMENT_INVOKER_TYPE =
+		MethodType.methodType(Object.class, Object.class, Object.class);
+
+	// keyed by declaring class, so cached accessors do not keep classes of a discarded ClassLoader alive
+	private static final ClassValue<Map<Object, Object>> ACCESSORS = new ClassValue<Map<Object, Object>>() {
+		@Override
+		protected Map<Object, Object> computeValue(Class<?> type) {
+			return new ConcurrentHashMap<>();
+		}
+	};
+
+	private final AccessorFactory fallback = ReflectionAccessorFactory.INSTANCE;
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public <T> Supplier<T> instantiator(Class<T> type) {
+		return (Supplier<T>)computeIfAbsent(type, type, () -> {
+			MethodHandle handle = unreflect(type.getDeclaredConstructor()).asType(NO_ARGUMENT_CONSTRUCTOR_TYPE);
+			return (Supplier<T>)() -> {
+				try {
+					return (T)(Object)handle.invokeExact();
+				} catch (Throwable throwable) {
+					throw ExceptionUtils.throwAsUncheckedException(throwable);
+				}
+			};
+		}, () -> fallback.instantiator(type));
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public <T> Function<Object[], T> instantiator(Constructor<T> constructor) {
+		return (Function<Object[], T>)computeIfAbsent(constructor.getDeclaringClass(), constructor, () -> {
+			MethodHandle handle = unreflect(constructor)
+				.asSpreader(Object[].class, constructor.getParameterCount())
+				.asType(CONSTRUCTOR_TYPE);
+			return (Function<Object[], T>)arguments -> {
+				try {
+					return (T)(Object)handle.invokeExact(arguments);
+				} catch (Throwable throwable) {
+					throw ExceptionUtils.throwAsUncheckedException(throwable);
+				}
+			};
+		}, () -> fallback.instantiator(constructor));
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public BiConsumer<Object, Object> setter(Field field) {
+		return (BiConsumer<Object, Object>)computeIfAbsent(field.getDeclaringClass(), field, () -> {
+			ReflectionUtils.makeAccessible(field);
+			MethodHandle handle = LOOKUP.unreflectSetter(field).asType(SETTER_TYPE);
+			return (BiConsumer<Object, Object>)(target, value) -> {
+				try {
+					handle.invokeExact(target, value);
+				} catch (Throwable throwable) {
+					throw ExceptionUtils.throwAsUncheckedException(throwable);
+				}
+			};
+		}, () -> fallback.setter(field));
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public Function<Object, Object> noArgumentInvoker(Method method) {
+		return (Function<Object, Object>)computeIfAbsent(method.getDeclaringClass(), method, () -> {
+			MethodHandle handle = unreflect(method);
+			if (Modifier.isStatic(method.getModifiers())) {
+				handle = MethodHandles.dropArguments(handle, 0, Object.class);
+			}
+			MethodHandle invoker = handle.asType(NO_ARGUMENT_INVOKER_TYPE);
+			return (Function<Object, Object>)target -> {
+				try {
+					return (Object)invoker.invokeExact(target);
+				} catch (Throwable throwable) {
+					throw ExceptionUtils.throwAsUncheckedException(throwable);
+				}
+			};
+		}, () -> fallback.noArgumentInvoker(method));
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public BiFunction<Object, Object, Object> singleArgumentInvoker(Method method) {
+		return (BiFunction<Object, Object, Object>)computeIfAbsent(method.getDeclaringClass(), method, () -> {
+			MethodHandle handle = unreflect(method);
+			if (Modifier.isStatic(method.getModifiers())) {
+				handle = MethodHandles.dropArguments(handle, 0, Object.class);
+			}
+			MethodHandle invoker = handle.asType(SINGLE_ARGUMENT_INVOKER_TYPE);
+			return (BiFunction<Object, Object, Object>)(target, argument) -> {
+				try {
+					return (Object)invoker.invokeExact(target, argument);
+				} catch (Throwable throwable) {
+					throw ExceptionUtils.throwAsUncheckedException(throwable);
+				}
+			};
+		}, () -> fallback.singleArgumentInvoker(method));
+	}
+
+	private static Object computeIfAbsent(
+		Class<?> owner,
+		Object key,
+		AccessorSupplier accessor,
+		Supplier<Object> fallback
+	) {
+		return ACCESSORS.get(owner).computeIfAbsent(key, k -> {
+			try {
+				return accessor.get();
+			} catch (RuntimeException | ReflectiveOperationException ex) {
+				return fallback.get();
+			}
+		});
+	}
+
+	private static MethodHandle unreflect(Constructor<?> constructor) throws IllegalAccessException {
+		ReflectionUtils.makeAccessible(constructor);
+		return LOOKUP.unreflectConstructor(constructor);
+	}
+
+	private static MethodHandle unreflect(Method method) throws IllegalAccessException {
+		ReflectionUtils.makeAccessible(method);
+		return LOOKUP.unreflect(method);
+	}
+
+	@FunctionalInterface
+	private interface AccessorSupplier {
+		Object get() throws ReflectiveOperationException;
+	}
+}
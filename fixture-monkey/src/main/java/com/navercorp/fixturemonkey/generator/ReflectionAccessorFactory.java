@@ -0,0 +1,69 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.generator;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.junit.platform.commons.util.ExceptionUtils;
+import org.junit.platform.commons.util.ReflectionUtils;
+
+@API(since = "0.4.0", status = Status.EXPERIMENTAL)
+public final class ReflectionAccessorFactory implements AccessorFactory {
+	public static final ReflectionAccessorFactory INSTANCE = new ReflectionAccessorFactory();
+
+	@Override
+	public <T> Supplier<T> instantiator(Class<T> type) {
+		return () -> ReflectionUtils.newInstance(type);
+	}
+
+	@Override
+	public <T> Function<Object[], T> instantiator(Constructor<T> constructor) {
+		return arguments -> ReflectionUtils.newInstance(constructor, arguments);
+	}
+
+	@Override
+	public BiConsumer<Object, Object> setter(Field field) {
+		ReflectionUtils.makeAccessible(field);
+		return (target, value) -> {
+			try {
+				field.set(target, value);
+			} catch (IllegalAccessException ex) {
+				throw ExceptionUtils.throwAsUncheckedException(ex);
+			}
+		};
+	}
+
+	@Override
+	public Function<Object, Object> noArgumentInvoker(Method method) {
+		return target -> ReflectionUtils.invokeMethod(method, target);
+	}
+
+	@Override
+	public BiFunction<Object, Object, Object> singleArgumentInvoker(Method method) {
+		return (target, argument) -> ReflectionUtils.invokeMethod(method, target, argument);
+	}
+}
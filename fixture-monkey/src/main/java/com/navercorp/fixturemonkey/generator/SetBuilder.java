@@ -18,43 +18,105 @@
 
 package com.navercorp.fixturemonkey.generator;
 
-import java.util.Collection;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Random;
+import java.util.Set;
 
+import javax.annotation.Nullable;
+
+import net.jqwik.api.Arbitraries;
 import net.jqwik.api.Arbitrary;
-import net.jqwik.api.Builders;
-import net.jqwik.api.Builders.BuilderCombinator;
+import net.jqwik.api.RandomGenerator;
 
 import com.navercorp.fixturemonkey.arbitrary.ArbitraryNode;
 
+/**
+ * Draws elements one by one and draws again only the element colliding with the elements drawn before,
+ * instead of generating the whole set again.
+ */
 final class SetBuilder {
 	public static SetBuilder INSTANCE = new SetBuilder();
 
+	private static final int MAX_TRIES_PER_ELEMENT = 100;
+
 	@SuppressWarnings({"rawtypes", "unchecked"})
 	<T> Arbitrary<T> build(List<ArbitraryNode> nodes) {
-		BuilderCombinator<CollectionBuilderFrame> setBuilderCombinator = Builders.withBuilder(SetBuilderFrame::new);
 		if (nodes.isEmpty()) {
-			return (Arbitrary<T>)setBuilderCombinator.build(CollectionBuilderFrame::build);
+			return (Arbitrary<T>)Arbitraries.randomValue(random -> new HashSet<>());
 		}
 
+		int size = nodes.size();
+		Long domainSize = getDomainSize(nodes);
+		if (domainSize != null && domainSize < size) {
+			throw new IllegalArgumentException(
+				"Set could not have " + size + " elements, element type has only " + domainSize + " values. "
+					+ "type: " + nodes.get(0).getType().getType()
+			);
+		}
+
+		List<Arbitrary<Object>> elementArbitraries = new ArrayList<>(size);
 		for (ArbitraryNode<?> node : nodes) {
-			setBuilderCombinator = setBuilderCombinator.use(node.getArbitrary())
-				.in(CollectionBuilderFrame::add);
+			elementArbitraries.add((Arbitrary<Object>)node.getArbitrary());
+		}
+		UniqueElementsGenerator generator = new UniqueElementsGenerator(elementArbitraries);
+
+		// a collision not resolved by drawing again leaves the set smaller
+		return (Arbitrary<T>)Arbitraries.randomValue(generator::next)
+			.filter(it -> it.size() == size);
+	}
+
+	// a nullable element could be null once more
+	@SuppressWarnings("rawtypes")
+	@Nullable
+	private static Long getDomainSize(List<ArbitraryNode> nodes) {
+		Long domainSize = nodes.get(0).getType().getDomainSize();
+		if (domainSize == null || domainSize == Long.MAX_VALUE) {
+			return domainSize;
 		}
 
-		return (Arbitrary<T>)setBuilderCombinator.build(CollectionBuilderFrame::build)
-			.filter(it -> it.size() == nodes.size());
+		for (ArbitraryNode<?> node : nodes) {
+			if (node.isNullable()) {
+				return domainSize + 1;
+			}
+		}
+		return domainSize;
 	}
 
-	private static class SetBuilderFrame extends CollectionBuilderFrame {
-		public SetBuilderFrame() {
-			super(new HashSet<>());
+	private static final class UniqueElementsGenerator {
+		private final List<Arbitrary<Object>> elementArbitraries;
+		@Nullable
+		private volatile List<RandomGenerator<Object>> elementGenerators;
+
+		private UniqueElementsGenerator(List<Arbitrary<Object>> elementArbitraries) {
+			this.elementArbitraries = elementArbitraries;
+		}
+
+		private Set<Object> next(Random random) {
+			List<RandomGenerator<Object>> generators = getElementGenerators();
+			Set<Object> set = new HashSet<>();
+			for (RandomGenerator<Object> generator : generators) {
+				for (int i = 0; i < MAX_TRIES_PER_ELEMENT; i++) {
+					if (set.add(generator.next(random).value())) {
+						break;
+					}
+				}
+			}
+			return set;
 		}
 
-		@Override
-		Collection<Object> build() {
-			return new HashSet<>(collection);
+		// generators are stateless, creating them twice on a race is harmless
+		private List<RandomGenerator<Object>> getElementGenerators() {
+			List<RandomGenerator<Object>> generators = this.elementGenerators;
+			if (generators == null) {
+				generators = new ArrayList<>(elementArbitraries.size());
+				for (Arbitrary<Object> elementArbitrary : elementArbitraries) {
+					generators.add(elementArbitrary.generator(1000));
+				}
+				this.elementGenerators = generators;
+			}
+			return generators;
 		}
 	}
 }
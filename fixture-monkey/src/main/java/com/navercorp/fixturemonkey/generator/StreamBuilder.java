@@ -18,6 +18,8 @@
 
 package com.navercorp.fixturemonkey.generator;
 
+import static com.navercorp.fixturemonkey.Constants.COLLAPSED_ELEMENT_MIN_SIZE;
+
 import java.util.List;
 import java.util.stream.Stream;
 import java.util.stream.Stream.Builder;
@@ -28,11 +30,20 @@ import net.jqwik.api.Builders.BuilderCombinator;
 
 import com.navercorp.fixturemonkey.arbitrary.ArbitraryNode;
 
+/**
+ * A stream of {@link com.navercorp.fixturemonkey.Constants#COLLAPSED_ELEMENT_MIN_SIZE} or more elements
+ * draws its elements when consumed, after the owning object is validated.
+ * Each of those elements is validated when drawn, see {@link com.navercorp.fixturemonkey.arbitrary.ArbitraryTree}.
+ */
 @SuppressWarnings({"rawtypes", "unchecked"})
 final class StreamBuilder {
 	public static final StreamBuilder INSTANCE = new StreamBuilder();
 
 	<T> Arbitrary<T> build(List<ArbitraryNode> nodes) {
+		if (nodes.size() >= COLLAPSED_ELEMENT_MIN_SIZE) {
+			return (Arbitrary<T>)LazyElementStream.arbitrary(nodes);
+		}
+
 		BuilderCombinator<Builder> streamBuilderCombinator = Builders.withBuilder(Stream::builder);
 		if (nodes.isEmpty()) {
 			return (Arbitrary<T>)streamBuilderCombinator.build(Stream.Builder::build);
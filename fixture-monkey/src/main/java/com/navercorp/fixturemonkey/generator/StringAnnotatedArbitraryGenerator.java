@@ -18,10 +18,7 @@
 
 package com.navercorp.fixturemonkey.generator;
 
-import static java.util.stream.Collectors.toList;
-
 import java.math.BigDecimal;
-import java.util.List;
 import java.util.Optional;
 
 import javax.validation.constraints.Digits;
@@ -34,6 +31,8 @@ import net.jqwik.api.Arbitrary;
 import net.jqwik.api.arbitraries.StringArbitrary;
 import net.jqwik.web.api.Web;
 
+import com.navercorp.fixturemonkey.api.generator.RegexGenerator;
+
 public class StringAnnotatedArbitraryGenerator implements AnnotatedArbitraryGenerator<String> {
 	public static final StringAnnotatedArbitraryGenerator INSTANCE = new StringAnnotatedArbitraryGenerator();
 	private static final java.util.regex.Pattern EMPTY_PATTERN = java.util.regex.Pattern.compile("");
@@ -72,13 +71,13 @@ public class StringAnnotatedArbitraryGenerator implements AnnotatedArbitraryGene
 		if (pattern.isPresent()) {
 			Integer minValue = min != null ? min.intValue() : null;
 			Integer maxValue = max != null ? max.intValue() : null;
-			List<String> values = REGEX_GENERATOR.generateAll(pattern.get(), minValue, maxValue);
+			Arbitrary<String> values = REGEX_GENERATOR.generate(
+				pattern.get().regexp(), RegexGenerator.toFlags(pattern.get().flags()), minValue, maxValue
+			);
 			if (notBlank) {
-				values = values.stream()
-					.filter(this::isNotBlank)
-					.collect(toList());
+				values = values.filter(this::isNotBlank);
 			}
-			return Arbitraries.of(values);
+			return values;
 		}
 
 		Arbitrary<String> arbitrary;
@@ -18,7 +18,30 @@
 
 package com.navercorp.fixturemonkey.validator;
 
+import java.util.Collections;
+import java.util.Set;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.ConstraintViolationException;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
 public interface ArbitraryValidator<T> {
 	// if arbitrary is not valid throw exception then re-create arbitrary for valid.
 	void validate(T arbitrary);
+
+	/**
+	 * Returns the violations of given arbitrary instead of throwing, empty if it is valid.
+	 * Implementations should override it when violations could be found without an exception.
+	 */
+	@API(since = "0.4.0", status = Status.EXPERIMENTAL)
+	default Set<? extends ConstraintViolation<?>> findViolations(T arbitrary) {
+		try {
+			validate(arbitrary);
+			return Collections.emptySet();
+		} catch (ConstraintViolationException ex) {
+			return ex.getConstraintViolations();
+		}
+	}
 }
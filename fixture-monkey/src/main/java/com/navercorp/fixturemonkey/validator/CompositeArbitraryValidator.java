@@ -21,6 +21,9 @@ package com.navercorp.fixturemonkey.validator;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
+
+import javax.validation.ConstraintViolation;
 
 @SuppressWarnings("rawtypes")
 public final class CompositeArbitraryValidator implements ArbitraryValidator<Object> {
@@ -50,4 +53,18 @@ public final class CompositeArbitraryValidator implements ArbitraryValidator<Obj
 
 		this.defaultValidator.validate(arbitrary);
 	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public Set<? extends ConstraintViolation<?>> findViolations(Object arbitrary) {
+		ArbitraryValidator validator = this.validators.get(arbitrary.getClass());
+		if (validator != null) {
+			Set<? extends ConstraintViolation<?>> violations = validator.findViolations(arbitrary);
+			if (!violations.isEmpty()) {
+				return violations;
+			}
+		}
+
+		return this.defaultValidator.findViolations(arbitrary);
+	}
 }
@@ -18,17 +18,81 @@
 
 package com.navercorp.fixturemonkey.validator;
 
+import static java.util.stream.Collectors.toList;
+
+import java.lang.annotation.Annotation;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import javax.validation.ConstraintViolation;
 import javax.validation.ConstraintViolationException;
 import javax.validation.Validation;
 import javax.validation.Validator;
+import javax.validation.constraints.AssertFalse;
+import javax.validation.constraints.AssertTrue;
+import javax.validation.constraints.DecimalMax;
+import javax.validation.constraints.DecimalMin;
+import javax.validation.constraints.Digits;
+import javax.validation.constraints.Email;
+import javax.validation.constraints.Future;
+import javax.validation.constraints.FutureOrPresent;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.Negative;
+import javax.validation.constraints.NegativeOrZero;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Null;
+import javax.validation.constraints.Past;
+import javax.validation.constraints.PastOrPresent;
+import javax.validation.constraints.Pattern;
+import javax.validation.constraints.Positive;
+import javax.validation.constraints.PositiveOrZero;
+import javax.validation.constraints.Size;
+import javax.validation.metadata.BeanDescriptor;
+import javax.validation.metadata.PropertyDescriptor;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
 
 public final class DefaultArbitraryValidator<T> implements ArbitraryValidator<T> {
+	/**
+	 * Constraints already satisfied by the default generators unless the property is manipulated.
+	 */
+	@API(since = "0.4.0", status = Status.EXPERIMENTAL)
+	public static final Set<Class<? extends Annotation>> GENERATED_CONSTRAINTS = Collections.unmodifiableSet(
+		new HashSet<>(Arrays.asList(
+			AssertFalse.class, AssertTrue.class, DecimalMax.class, DecimalMin.class, Digits.class, Email.class,
+			Future.class, FutureOrPresent.class, Max.class, Min.class, Negative.class, NegativeOrZero.class,
+			NotBlank.class, NotEmpty.class, NotNull.class, Null.class, Past.class, PastOrPresent.class,
+			Pattern.class, Positive.class, PositiveOrZero.class, Size.class
+		))
+	);
+
 	private Validator validator;
+	private final Set<Class<? extends Annotation>> skippedConstraints;
+	private final ClassValue<ValidationPlan> validationPlans = new ClassValue<ValidationPlan>() {
+		@Override
+		protected ValidationPlan computeValue(Class<?> type) {
+			return ValidationPlan.of(validator.getConstraintsForClass(type), skippedConstraints);
+		}
+	};
 
 	public DefaultArbitraryValidator() {
+		this(Collections.emptySet());
+	}
+
+	/**
+	 * Properties constrained only by {@code skippedConstraints} are not validated,
+	 * use {@link #GENERATED_CONSTRAINTS} when fixed values are not set on constrained properties.
+	 */
+	@API(since = "0.4.0", status = Status.EXPERIMENTAL)
+	public DefaultArbitraryValidator(Set<Class<? extends Annotation>> skippedConstraints) {
+		this.skippedConstraints = new HashSet<>(skippedConstraints);
 		try {
 			this.validator = Validation.buildDefaultValidatorFactory().getValidator();
 		} catch (Exception e) {
@@ -38,12 +102,77 @@ public final class DefaultArbitraryValidator<T> implements ArbitraryValidator<T>
 
 	@Override
 	public void validate(T arbitrary) {
-		if (this.validator != null) {
-			Set<ConstraintViolation<T>> violations = this.validator.validate(arbitrary);
-			if (!violations.isEmpty()) {
-				throw new ConstraintViolationException(
-					"DefaultFixtureValidator ConstraintViolations. type: " + arbitrary.getClass(), violations);
+		Set<ConstraintViolation<T>> violations = doValidate(arbitrary);
+		if (!violations.isEmpty()) {
+			throw new ConstraintViolationException(
+				"DefaultFixtureValidator ConstraintViolations. type: " + arbitrary.getClass(), violations);
+		}
+	}
+
+	@Override
+	public Set<? extends ConstraintViolation<?>> findViolations(T arbitrary) {
+		return doValidate(arbitrary);
+	}
+
+	private Set<ConstraintViolation<T>> doValidate(T arbitrary) {
+		if (this.validator == null) {
+			return Collections.emptySet();
+		}
+
+		ValidationPlan plan = validationPlans.get(arbitrary.getClass());
+		if (!plan.constrained) {
+			return Collections.emptySet();
+		}
+
+		if (plan.properties == null) {
+			return this.validator.validate(arbitrary);
+		}
+
+		Set<ConstraintViolation<T>> violations = Collections.emptySet();
+		for (String property : plan.properties) {
+			Set<ConstraintViolation<T>> propertyViolations = this.validator.validateProperty(arbitrary, property);
+			if (!propertyViolations.isEmpty()) {
+				if (violations.isEmpty()) {
+					violations = new HashSet<>();
+				}
+				violations.addAll(propertyViolations);
+			}
+		}
+		return violations;
+	}
+
+	private static final class ValidationPlan {
+		private final boolean constrained;
+		// null if every property should be validated
+		private final List<String> properties;
+
+		private ValidationPlan(boolean constrained, List<String> properties) {
+			this.constrained = constrained;
+			this.properties = properties;
+		}
+
+		private static ValidationPlan of(BeanDescriptor descriptor, Set<Class<? extends Annotation>> skipped) {
+			if (!descriptor.isBeanConstrained()) {
+				return new ValidationPlan(false, Collections.emptyList());
 			}
+
+			Set<PropertyDescriptor> properties = descriptor.getConstrainedProperties();
+			// validateProperty does not cascade, nested and container element constraints need the whole graph
+			boolean partial = !skipped.isEmpty()
+				&& descriptor.getConstraintDescriptors().isEmpty()
+				&& properties.stream().noneMatch(
+					property -> property.isCascaded() || !property.getConstrainedContainerElementTypes().isEmpty()
+				);
+			if (!partial) {
+				return new ValidationPlan(true, null);
+			}
+
+			List<String> validatedProperties = properties.stream()
+				.filter(property -> property.getConstraintDescriptors().stream()
+					.anyMatch(constraint -> !skipped.contains(constraint.getAnnotation().annotationType())))
+				.map(PropertyDescriptor::getPropertyName)
+				.collect(toList());
+			return new ValidationPlan(!validatedProperties.isEmpty(), validatedProperties);
 		}
 	}
 }
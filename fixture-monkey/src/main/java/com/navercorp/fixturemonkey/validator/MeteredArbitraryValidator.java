@@ -0,0 +1,103 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.validator;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.ConstraintViolationException;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+
+/**
+ * Records how often generated objects are rejected by the given validator.
+ * Every rejection is a whole object thrown away and generated again,
+ * the counts per property show which constraints are not satisfied at generation time.
+ */
+@API(since = "0.4.0", status = Status.EXPERIMENTAL)
+public final class MeteredArbitraryValidator<T> implements ArbitraryValidator<T> {
+	private final ArbitraryValidator<T> delegate;
+	private final LongAdder validationCount = new LongAdder();
+	private final LongAdder rejectionCount = new LongAdder();
+	private final Map<String, LongAdder> rejectionCountsByProperty = new ConcurrentHashMap<>();
+
+	public MeteredArbitraryValidator(ArbitraryValidator<T> delegate) {
+		this.delegate = delegate;
+	}
+
+	@Override
+	public void validate(T arbitrary) {
+		validationCount.increment();
+		try {
+			delegate.validate(arbitrary);
+		} catch (ConstraintViolationException ex) {
+			reject(ex.getConstraintViolations());
+			throw ex;
+		}
+	}
+
+	@Override
+	public Set<? extends ConstraintViolation<?>> findViolations(T arbitrary) {
+		validationCount.increment();
+		Set<? extends ConstraintViolation<?>> violations = delegate.findViolations(arbitrary);
+		if (!violations.isEmpty()) {
+			reject(violations);
+		}
+		return violations;
+	}
+
+	public long getValidationCount() {
+		return validationCount.sum();
+	}
+
+	public long getRejectionCount() {
+		return rejectionCount.sum();
+	}
+
+	/**
+	 * Returns a snapshot of rejections keyed by {@code rootBeanClassName.propertyPath}.
+	 */
+	public Map<String, Long> getRejectionCountsByProperty() {
+		Map<String, Long> snapshot = new HashMap<>();
+		rejectionCountsByProperty.forEach((property, count) -> snapshot.put(property, count.sum()));
+		return Collections.unmodifiableMap(snapshot);
+	}
+
+	public void reset() {
+		validationCount.reset();
+		rejectionCount.reset();
+		rejectionCountsByProperty.clear();
+	}
+
+	private void reject(Set<? extends ConstraintViolation<?>> violations) {
+		rejectionCount.increment();
+		violations.forEach(violation ->
+			rejectionCountsByProperty.computeIfAbsent(
+				violation.getRootBeanClass().getName() + "." + violation.getPropertyPath(),
+				key -> new LongAdder()
+			).increment()
+		);
+	}
+}
@@ -0,0 +1,69 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.validation.constraints.Positive;
+
+import net.jqwik.api.Arbitraries;
+import net.jqwik.api.Arbitrary;
+import net.jqwik.api.Example;
+
+class ArbitraryOptionTest {
+	@Example
+	void getAnnotatedArbitraryOncePerAnnotations() throws NoSuchFieldException {
+		ArbitraryOption option = ArbitraryOption.builder().build();
+		List<Annotation> annotations = Arrays.asList(IntWithPositive.class.getDeclaredField("value").getAnnotations());
+
+		Arbitrary<Integer> actual = option.getAnnotatedArbitrary(int.class, annotations);
+
+		then(actual).isSameAs(option.getAnnotatedArbitrary(int.class, new ArrayList<>(annotations)));
+		then(actual).isNotSameAs(option.getAnnotatedArbitrary(int.class, Collections.emptyList()));
+		then(actual.sample()).isPositive();
+	}
+
+	@Example
+	void registeredAnnotatedArbitraryGeneratorInvokedOnce() {
+		AtomicInteger invoked = new AtomicInteger();
+		ArbitraryOption option = ArbitraryOption.builder()
+			.addAnnotatedArbitraryGenerator(String.class, annotationSource -> {
+				invoked.incrementAndGet();
+				return Arbitraries.just("test");
+			})
+			.build();
+
+		option.getAnnotatedArbitrary(String.class, Collections.emptyList());
+		option.getAnnotatedArbitrary(String.class, Collections.emptyList());
+
+		then(invoked).hasValue(1);
+	}
+
+	static class IntWithPositive {
+		@Positive
+		private int value;
+	}
+}
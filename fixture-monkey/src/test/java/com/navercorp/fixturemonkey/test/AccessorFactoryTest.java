@@ -0,0 +1,144 @@
+/*
+ * Fixture Monkey
+ *
+ * Copyright (c) 2021-present NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.fixturemonkey.test;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenThrownBy;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+import net.jqwik.api.Arbitraries;
+import net.jqwik.api.Arbitrary;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.Provide;
+
+import com.navercorp.fixturemonkey.generator.AccessorFactory;
+import com.navercorp.fixturemonkey.generator.MethodHandleAccessorFactory;
+import com.navercorp.fixturemonkey.generator.ReflectionAccessorFactory;
+
+class AccessorFactoryTest {
+	@Property(tries = 2)
+	void instantiator(@ForAll("accessorFactories") AccessorFactory sut) {
+		// when
+		Accessible actual = sut.instantiator(Accessible.class).get();
+
+		then(actual.value).isEqualTo("default");
+	}
+
+	@Property(tries = 2)
+	void instantiatorOfConstructor(@ForAll("accessorFactories") AccessorFactory sut) throws Exception {
+		// given
+		Constructor<Accessible> constructor = Accessible.class.getDeclaredConstructor(String.class);
+
+		// when
+		Accessible actual = sut.instantiator(constructor).apply(new Object[] {"value"});
+
+		then(actual.value).isEqualTo("value");
+	}
+
+	@Property(tries = 2)
+	void setter(@ForAll("accessorFactories") AccessorFactory sut) throws Exception {
+		// given
+		Field field = Accessible.class.getDeclaredField("value");
+		Accessible accessible = new Accessible();
+
+		// when
+		sut.setter(field).accept(accessible, "value");
+
+		then(accessible.value).isEqualTo("value");
+	}
+
+	@Property(tries = 2)
+	void setterOfWrongTypeThrows(@ForAll("accessorFactories") AccessorFactory sut) throws Exception {
+		// given
+		Field field = Accessible.class.getDeclaredField("value");
+		Accessible accessible = new Accessible();
+
+		thenThrownBy(() -> sut.setter(field).accept(accessible, 1))
+			.isInstanceOf(RuntimeException.class);
+	}
+
+	@Property(tries = 2)
+	void noArgumentInvoker(@ForAll("accessorFactories") AccessorFactory sut) throws Exception {
+		// given
+		Method getter = Accessible.class.getDeclaredMethod("getValue");
+
+		// when
+		Object actual = sut.noArgumentInvoker(getter).apply(new Accessible("value"));
+
+		then(actual).isEqualTo("value");
+	}
+
+	@Property(tries = 2)
+	void singleArgumentInvoker(@ForAll("accessorFactories") AccessorFactory sut) throws Exception {
+		// given
+		Method setter = Accessible.class.getDeclaredMethod("setValue", String.class);
+		Accessible accessible = new Accessible();
+
+		// when
+		Object actual = sut.singleArgumentInvoker(setter).apply(accessible, "value");
+
+		then(actual).isNull();
+		then(accessible.value).isEqualTo("value");
+	}
+
+	@Property(tries = 2)
+	void singleArgumentInvokerRethrowsExceptionOfMethod(@ForAll("accessorFactories") AccessorFactory sut)
+		throws Exception {
+		// given
+		Method setter = Accessible.class.getDeclaredMethod("setThrowing", String.class);
+		Accessible accessible = new Accessible();
+
+		thenThrownBy(() -> sut.singleArgumentInvoker(setter).apply(accessible, "value"))
+			.isExactlyInstanceOf(IllegalStateException.class)
+			.hasMessage("value");
+	}
+
+	@Provide
+	Arbitrary<AccessorFactory> accessorFactories() {
+		return Arbitraries.of(MethodHandleAccessorFactory.INSTANCE, ReflectionAccessorFactory.INSTANCE);
+	}
+
+	private static class Accessible {
+		private String value;
+
+		private Accessible() {
+			this("default");
+		}
+
+		private Accessible(String value) {
+			this.value = value;
+		}
+
+		private String getValue() {
+			return value;
+		}
+
+		private void setValue(String value) {
+			this.value = value;
+		}
+
+		private void setThrowing(String value) {
+			throw new IllegalStateException(value);
+		}
+	}
+}
@@ -51,4 +51,21 @@ public class ArbitraryExpressionTest {
 
 		then(arbitraryExpression.toString()).isEqualTo("navercorp.fixturemonkey");
 	}
+
+	@Test
+	void appendLeftWithIndex() {
+		ArbitraryExpression arbitraryExpression = ArbitraryExpression.from("values[0]");
+
+		ArbitraryExpression actual = arbitraryExpression.addFirst("navercorp[*]");
+
+		then(actual).isEqualTo(ArbitraryExpression.from("navercorp[*].values[0]"));
+		then(actual.toString()).isEqualTo("navercorp[*].values[0]");
+	}
+
+	@Test
+	void fromSameExpressionReturnsSameInstance() {
+		ArbitraryExpression actual = ArbitraryExpression.from("navercorp.fixturemonkey[0]");
+
+		then(actual).isSameAs(ArbitraryExpression.from("navercorp.fixturemonkey[0]"));
+	}
 }
@@ -44,8 +44,10 @@ import com.navercorp.fixturemonkey.generator.FieldArbitraries;
 import com.navercorp.fixturemonkey.generator.FieldNameResolver;
 import com.navercorp.fixturemonkey.generator.FieldReflectionArbitraryGenerator;
 import com.navercorp.fixturemonkey.generator.NullArbitraryGenerator;
+import com.navercorp.fixturemonkey.generator.ReflectionAccessorFactory;
 import com.navercorp.fixturemonkey.test.ArbitraryGeneratorTestSpecs.BeanInnerBuilder;
 import com.navercorp.fixturemonkey.test.ArbitraryGeneratorTestSpecs.BeanInteger;
+import com.navercorp.fixturemonkey.test.ArbitraryGeneratorTestSpecs.BeanThrowingSetter;
 import com.navercorp.fixturemonkey.test.ArbitraryGeneratorTestSpecs.BuilderInteger;
 import com.navercorp.fixturemonkey.test.ArbitraryGeneratorTestSpecs.ConstructorPropertiesInteger;
 import com.navercorp.fixturemonkey.test.ArbitraryGeneratorTestSpecs.ConstructorPropertiesTwice;
@@ -128,6 +130,33 @@ class ArbitraryGeneratorTest {
 		then(actual.getValue()).isBetween(Integer.MIN_VALUE, Integer.MAX_VALUE);
 	}
 
+	@Property
+	void giveMeWhenDefaultGeneratorIsBeanArbitraryGeneratorWithReflectionAccessorFactory() {
+		// given
+		FixtureMonkey sut = FixtureMonkey.builder()
+			.defaultGenerator(new BeanArbitraryGenerator(ReflectionAccessorFactory.INSTANCE))
+			.build();
+
+		// when
+		BeanInteger actual = sut.giveMeBuilder(BeanInteger.class)
+			.set("value", 1)
+			.sample();
+
+		then(actual.getValue()).isEqualTo(1);
+	}
+
+	@Property
+	void giveMeWhenBeanSetterThrowsThrows() {
+		// given
+		FixtureMonkey sut = FixtureMonkey.builder()
+			.defaultGenerator(BeanArbitraryGenerator.INSTANCE)
+			.build();
+
+		thenThrownBy(() -> sut.giveMeBuilder(BeanThrowingSetter.class).set("value", 1).sample())
+			.isInstanceOf(IllegalStateException.class)
+			.hasMessageContaining("setValue is not allowed");
+	}
+
 	@Property
 	@Domain(ArbitraryGeneratorTestSpecs.class)
 	void giveMeWhenPutBeanArbitraryGenerator(@ForAll BeanInteger actual) {
@@ -75,6 +75,18 @@ class ArbitraryGeneratorTestSpecs extends DomainContextBase {
 		return SUT.giveMeArbitrary(BeanInteger.class);
 	}
 
+	public static class BeanThrowingSetter {
+		private int value;
+
+		public int getValue() {
+			return value;
+		}
+
+		public void setValue(int value) {
+			throw new IllegalStateException("setValue is not allowed");
+		}
+	}
+
 	@Data
 	public static class BeanInnerBuilder {
 		private BuilderInteger value;
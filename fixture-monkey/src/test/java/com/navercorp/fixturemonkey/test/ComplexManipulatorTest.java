@@ -30,6 +30,7 @@ import static org.assertj.core.api.BDDAssertions.then;
 import static org.assertj.core.api.BDDAssertions.thenThrownBy;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -44,6 +45,8 @@ import com.navercorp.fixturemonkey.ArbitraryBuilders;
 import com.navercorp.fixturemonkey.FixtureMonkey;
 import com.navercorp.fixturemonkey.api.random.Randoms;
 import com.navercorp.fixturemonkey.api.type.TypeReference;
+import com.navercorp.fixturemonkey.arbitrary.ArbitraryNode;
+import com.navercorp.fixturemonkey.arbitrary.ArbitraryType;
 import com.navercorp.fixturemonkey.test.ComplexManipulatorTestSpecs.AcceptIfArbitraryGroup;
 import com.navercorp.fixturemonkey.test.ComplexManipulatorTestSpecs.ApplyArbitraryGroup;
 import com.navercorp.fixturemonkey.test.ComplexManipulatorTestSpecs.ArbitraryGroup;
@@ -894,4 +897,144 @@ class ComplexManipulatorTest {
 
 		then(actual).allMatch(it -> it.getValue().equals("test"));
 	}
+
+	@Property
+	void giveMeSizeManyTimesThenSetElement() {
+		// when
+		NestedStringList actual = SUT.giveMeBuilder(NestedStringList.class)
+			.size("values", 1)
+			.size("values", 3)
+			.set("values[2]", new StringValue("test"))
+			.set("values[0].value", Arbitraries.just("arbitrary"))
+			.sample();
+
+		then(actual.getValues()).hasSize(3);
+		then(actual.getValues().get(0).getValue()).isEqualTo("arbitrary");
+		then(actual.getValues().get(2).getValue()).isEqualTo("test");
+	}
+
+	@Property
+	void copiedBuildersDoNotShareManipulatedSubtrees() {
+		// given
+		ArbitraryBuilder<NestedStringList> builder = SUT.giveMeBuilder(NestedStringList.class)
+			.size("values", 2);
+		builder.sample();
+
+		// when
+		NestedStringList setCopied = builder.copy().set("values[0].value", "test").sample();
+		NestedStringList sizeCopied = builder.copy().size("values", 3).sample();
+		NestedStringList actual = builder.sample();
+
+		then(setCopied.getValues().get(0).getValue()).isEqualTo("test");
+		then(sizeCopied.getValues()).hasSize(3);
+		then(actual.getValues()).hasSize(2);
+	}
+
+	@Property(tries = 10)
+	void giveMeLargeSizeThenSetElement() {
+		// when
+		NestedStringList actual = SUT.giveMeBuilder(NestedStringList.class)
+			.size("values", 1000)
+			.set("values[3].value", "test")
+			.set("values[999]", new StringValue("last"))
+			.sample();
+
+		then(actual.getValues()).hasSize(1000);
+		then(actual.getValues().get(3).getValue()).isEqualTo("test");
+		then(actual.getValues().get(999).getValue()).isEqualTo("last");
+		then(actual.getValues()).doesNotContainNull();
+	}
+
+	@Property(tries = 10)
+	void giveMeLargeSizeThenSetAllElements() {
+		// when
+		NestedStringList actual = SUT.giveMeBuilder(NestedStringList.class)
+			.size("values", 100)
+			.set("values[*].value", "test")
+			.sample();
+
+		then(actual.getValues()).hasSize(100);
+		then(actual.getValues()).allMatch(it -> "test".equals(it.getValue()));
+	}
+
+	@Property
+	void sizeLargeThenSetShorterList() {
+		// when
+		IntegerList actual = SUT.giveMeBuilder(IntegerList.class)
+			.size("values", 100)
+			.set("values", Arrays.asList(1, 2, 3))
+			.sample();
+
+		then(actual.getValues()).containsExactly(1, 2, 3);
+	}
+
+	@Property
+	void sizeLargeThenSetElementThenSetShorterList() {
+		// when
+		IntegerList actual = SUT.giveMeBuilder(IntegerList.class)
+			.size("values", 100)
+			.set("values[0]", 0)
+			.set("values", Arrays.asList(1, 2, 3))
+			.sample();
+
+		then(actual.getValues()).containsExactly(1, 2, 3);
+	}
+
+	@Property
+	void sizeLargeThenSetAllElementsKeepsSize() {
+		// when
+		IntegerList actual = SUT.giveMeBuilder(IntegerList.class)
+			.size("values", 100)
+			.set("values[0]", 0)
+			.set("values[*]", 1)
+			.sample();
+
+		then(actual.getValues()).hasSize(100);
+		then(actual.getValues()).allMatch(it -> it == 1);
+	}
+
+	@SuppressWarnings({"rawtypes", "unchecked"})
+	@Property
+	void copyNodeThenManipulateOriginalChild() {
+		// given
+		ArbitraryNode head = ArbitraryNode.builder()
+			.type(new ArbitraryType<>(StringValue.class))
+			.addChild(ArbitraryNode.builder()
+				.type(new ArbitraryType<>(String.class))
+				.propertyName("value")
+				.build())
+			.build();
+		ArbitraryNode original = (ArbitraryNode)head.getChildren().get(0);
+
+		// when
+		ArbitraryNode copied = head.copy();
+		((ArbitraryNode)copied.getChildren().get(0)).setArbitrary(Arbitraries.just("copied"));
+		original.setArbitrary(Arbitraries.just("original"));
+
+		ArbitraryNode actual = (ArbitraryNode)head.getChildren().get(0);
+		then(actual).isSameAs(original);
+		then(actual.getArbitrary().sample()).isEqualTo("original");
+		then(((ArbitraryNode)copied.getChildren().get(0)).getArbitrary().sample()).isEqualTo("copied");
+	}
+
+	@SuppressWarnings({"rawtypes", "unchecked"})
+	@Property
+	void copyNodeThenManipulateOriginalChildFirst() {
+		// given
+		ArbitraryNode head = ArbitraryNode.builder()
+			.type(new ArbitraryType<>(StringValue.class))
+			.addChild(ArbitraryNode.builder()
+				.type(new ArbitraryType<>(String.class))
+				.propertyName("value")
+				.build())
+			.build();
+		((ArbitraryNode)head.getChildren().get(0)).setArbitrary(Arbitraries.just("before"));
+
+		// when
+		ArbitraryNode copied = head.copy();
+		((ArbitraryNode)head.getChildren().get(0)).setArbitrary(Arbitraries.just("original"));
+
+		then(((ArbitraryNode)head.getChildren().get(0)).getArbitrary().sample()).isEqualTo("original");
+		then(((ArbitraryNode)copied.getChildren().get(0)).getArbitrary().sample()).isEqualTo("before");
+	}
 }
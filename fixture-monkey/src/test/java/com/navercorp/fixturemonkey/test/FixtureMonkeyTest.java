@@ -25,12 +25,18 @@ import static org.assertj.core.api.BDDAssertions.then;
 import static org.assertj.core.api.BDDAssertions.thenNoException;
 import static org.assertj.core.api.BDDAssertions.thenThrownBy;
 
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import javax.validation.ConstraintViolationException;
 
 import net.jqwik.api.Arbitraries;
 import net.jqwik.api.Arbitrary;
@@ -45,11 +51,16 @@ import net.jqwik.api.domains.Domain;
 
 import com.navercorp.fixturemonkey.ArbitraryBuilder;
 import com.navercorp.fixturemonkey.FixtureMonkey;
+import com.navercorp.fixturemonkey.api.random.Randoms;
 import com.navercorp.fixturemonkey.api.type.TypeReference;
 import com.navercorp.fixturemonkey.customizer.ExpressionSpec;
+import com.navercorp.fixturemonkey.test.FixtureMonkeyTestSpecs.BytePayload;
 import com.navercorp.fixturemonkey.test.FixtureMonkeyTestSpecs.DefaultArbitraryGroup;
 import com.navercorp.fixturemonkey.test.FixtureMonkeyTestSpecs.DefaultArbitraryGroup2;
 import com.navercorp.fixturemonkey.test.FixtureMonkeyTestSpecs.DuplicateArbitraryGroup;
+import com.navercorp.fixturemonkey.test.FixtureMonkeyTestSpecs.EvenInteger;
+import com.navercorp.fixturemonkey.test.FixtureMonkeyTestSpecs.EvenIntegerStream;
+import com.navercorp.fixturemonkey.test.FixtureMonkeyTestSpecs.FullRangeLongSet;
 import com.navercorp.fixturemonkey.test.FixtureMonkeyTestSpecs.IntArray;
 import com.navercorp.fixturemonkey.test.FixtureMonkeyTestSpecs.IntWithAnnotation;
 import com.navercorp.fixturemonkey.test.FixtureMonkeyTestSpecs.IntegerArray;
@@ -68,12 +79,23 @@ import com.navercorp.fixturemonkey.test.FixtureMonkeyTestSpecs.MapKeyIntegerValu
 import com.navercorp.fixturemonkey.test.FixtureMonkeyTestSpecs.MockInterface;
 import com.navercorp.fixturemonkey.test.FixtureMonkeyTestSpecs.NestedStringQueue;
 import com.navercorp.fixturemonkey.test.FixtureMonkeyTestSpecs.NestedStringWithNotBlankList;
+import com.navercorp.fixturemonkey.test.FixtureMonkeyTestSpecs.NullAnnotated;
+import com.navercorp.fixturemonkey.test.FixtureMonkeyTestSpecs.NullAnnotatedInOtherGroup;
+import com.navercorp.fixturemonkey.test.FixtureMonkeyTestSpecs.SingleValueIntegerSet;
+import com.navercorp.fixturemonkey.test.FixtureMonkeyTestSpecs.SmallEnum;
+import com.navercorp.fixturemonkey.test.FixtureMonkeyTestSpecs.SmallEnumSet;
 import com.navercorp.fixturemonkey.test.FixtureMonkeyTestSpecs.StringAndInt;
 import com.navercorp.fixturemonkey.test.FixtureMonkeyTestSpecs.StringQueue;
 import com.navercorp.fixturemonkey.test.FixtureMonkeyTestSpecs.StringWithNotBlank;
 import com.navercorp.fixturemonkey.test.FixtureMonkeyTestSpecs.StringWithNullable;
+import com.navercorp.fixturemonkey.test.FixtureMonkeyTestSpecs.StringWithPattern;
+import com.navercorp.fixturemonkey.test.FixtureMonkeyTestSpecs.StringWithPatternAndSize;
+import com.navercorp.fixturemonkey.test.FixtureMonkeyTestSpecs.StringWithPatternShorterThanSize;
 import com.navercorp.fixturemonkey.test.SimpleManipulatorTestSpecs.StringValue;
 import com.navercorp.fixturemonkey.util.StringUtils;
+import com.navercorp.fixturemonkey.validator.CompositeArbitraryValidator;
+import com.navercorp.fixturemonkey.validator.DefaultArbitraryValidator;
+import com.navercorp.fixturemonkey.validator.MeteredArbitraryValidator;
 
 class FixtureMonkeyTest {
 	@Property
@@ -116,6 +138,26 @@ class FixtureMonkeyTest {
 		}
 	}
 
+	@Property
+	void giveMePrimitiveArrayWithSize() {
+		BytePayload actual = SUT.giveMeBuilder(BytePayload.class)
+			.setNotNull("payload")
+			.sample();
+
+		then(actual.getPayload()).hasSize(4096);
+	}
+
+	@Property
+	void giveMePrimitiveArraySetElement() {
+		IntArray actual = SUT.giveMeBuilder(IntArray.class)
+			.size("values", 3)
+			.set("values[1]", 7)
+			.sample();
+
+		then(actual.getValues()).hasSize(3);
+		then(actual.getValues()[1]).isEqualTo(7);
+	}
+
 	@Property
 	@Domain(FixtureMonkeyTestSpecs.class)
 	void giveMeSameKeyValueMapToBuilder(@ForAll MapKeyIntegerValueInteger mapKeyIntegerValueInteger) {
@@ -158,6 +200,72 @@ class FixtureMonkeyTest {
 		then(actual.getValues()).containsAll(integerSet.getValues());
 	}
 
+	@Property(tries = 10)
+	void giveMeLargeStreamLazily() {
+		IntegerStream actual = SUT.giveMeBuilder(IntegerStream.class)
+			.setNotNull("values")
+			.size("values", 100_000)
+			.sample();
+
+		then(actual.getValues().count()).isEqualTo(100_000);
+	}
+
+	@Property(tries = 10)
+	void giveMeLargeIteratorLazily() {
+		IntegerIterator actual = SUT.giveMeBuilder(IntegerIterator.class)
+			.setNotNull("values")
+			.size("values", 1000)
+			.sample();
+
+		int count = 0;
+		for (Iterator<Integer> it = actual.getValues(); it.hasNext(); it.next()) {
+			count++;
+		}
+		then(count).isEqualTo(1000);
+	}
+
+	@Property(tries = 10)
+	void giveMeLargeStreamValidatesEachElement() {
+		EvenIntegerStream actual = SUT.giveMeBuilder(EvenIntegerStream.class)
+			.setNotNull("values")
+			.size("values", 100)
+			.sample();
+
+		then(actual.getValues()).allMatch(EvenInteger::isEven);
+	}
+
+	@Property
+	void giveMeSetSizeOfEnumValues() {
+		SmallEnumSet actual = SUT.giveMeBuilder(SmallEnumSet.class)
+			.size("values", 3)
+			.sample();
+
+		then(actual.getValues()).containsExactlyInAnyOrder(SmallEnum.values());
+	}
+
+	@Property
+	void giveMeSetOfSingleValueWithDefaultSize() {
+		SingleValueIntegerSet actual = SUT.giveMeOne(SingleValueIntegerSet.class);
+
+		then(actual.getValues()).isSubsetOf(1);
+	}
+
+	@Example
+	void giveMeSetLargerThanEnumValuesThrows() {
+		thenThrownBy(() -> SUT.giveMeBuilder(SmallEnumSet.class).size("values", 4).sample())
+			.isExactlyInstanceOf(IllegalArgumentException.class)
+			.hasMessageContaining("element type has only 3 values");
+	}
+
+	@Property
+	void giveMeSetOfFullRangeLong() {
+		FullRangeLongSet actual = SUT.giveMeBuilder(FullRangeLongSet.class)
+			.size("values", 3)
+			.sample();
+
+		then(actual.getValues()).hasSize(3);
+	}
+
 	@Property
 	@Domain(FixtureMonkeyTestSpecs.class)
 	void giveMeIterableToBuilder(@ForAll IntegerIterable integerIterable) {
@@ -255,6 +363,151 @@ class FixtureMonkeyTest {
 		then(actual).allMatch(Objects::nonNull);
 	}
 
+	@Property(tries = 10)
+	void giveMeArbitraryThenSampleParallelStream() {
+		Arbitrary<StringAndInt> sut = SUT.giveMeArbitrary(StringAndInt.class);
+
+		List<StringAndInt> actual = sut.sampleStream().parallel().limit(100).collect(toList());
+
+		then(actual).hasSize(100);
+		then(actual).allMatch(Objects::nonNull);
+	}
+
+	@Example
+	void giveMeBuilderSetLimitThenSampleParallelStream() {
+		StringWithNotBlank expected = new StringWithNotBlank();
+		expected.setValue("set");
+		Arbitrary<StringAndInt> sut = SUT.giveMeBuilder(StringAndInt.class)
+			.set("value1", expected, 3)
+			.build();
+
+		List<StringAndInt> actual = sut.sampleStream().parallel().limit(100).collect(toList());
+
+		then(actual).filteredOn(it -> expected.equals(it.getValue1())).hasSize(3);
+	}
+
+	@Property(tries = 10)
+	void giveMeParallel() {
+		List<StringAndInt> actual = SUT.giveMeParallel(StringAndInt.class, 100, 4);
+
+		then(actual).hasSize(100);
+		then(actual).allMatch(Objects::nonNull);
+	}
+
+	@Example
+	void giveMeParallelWithSameSeedReturnsSame() {
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<StringAndInt> expected = SUT.giveMeParallel(StringAndInt.class, 20, 4, executor, "1234");
+
+			List<StringAndInt> actual = SUT.giveMeParallel(StringAndInt.class, 20, 4, executor, "1234");
+
+			then(actual).isEqualTo(expected);
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Example
+	void giveMeParallelNestedListWithSameSeedReturnsSame() {
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<NestedStringWithNotBlankList> expected =
+				SUT.giveMeParallel(NestedStringWithNotBlankList.class, 20, 4, executor, "1234");
+
+			List<NestedStringWithNotBlankList> actual =
+				SUT.giveMeParallel(NestedStringWithNotBlankList.class, 20, 4, executor, "1234");
+
+			then(actual).isEqualTo(expected);
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Example
+	void giveMeParallelTypeReferenceWithSameSeedReturnsSame() {
+		TypeReference<List<StringWithNotBlank>> typeReference = new TypeReference<List<StringWithNotBlank>>() {
+		};
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<List<StringWithNotBlank>> expected = SUT.giveMeParallel(typeReference, 20, 4, executor, "1234");
+
+			List<List<StringWithNotBlank>> actual = SUT.giveMeParallel(typeReference, 20, 4, executor, "1234");
+
+			then(actual).isEqualTo(expected);
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Example
+	void giveMeParallelKeepsRandomOfRunningThread() {
+		Random expected = Randoms.current();
+
+		SUT.giveMeParallel(StringAndInt.class, 20, 4, Runnable::run, "1234");
+
+		Random actual = Randoms.current();
+		then(actual).isSameAs(expected);
+	}
+
+	@Example
+	void giveMeParallelWithNonPositiveParallelismThrows() {
+		thenThrownBy(() -> SUT.giveMeParallel(StringAndInt.class, 10, 0))
+			.isExactlyInstanceOf(IllegalArgumentException.class)
+			.hasMessageContaining("parallelism should be positive");
+	}
+
+	@Example
+	void giveMeBatches() {
+		List<List<StringAndInt>> actual = SUT.giveMeBatches(StringAndInt.class, 25, 10).collect(toList());
+
+		then(actual).extracting(List::size).containsExactly(10, 10, 5);
+		then(actual).allMatch(batch -> batch.stream().allMatch(Objects::nonNull));
+	}
+
+	@Example
+	void giveMeBatchesInParallelWithSameSeedReturnsSame() {
+		List<List<StringAndInt>> expected = SUT.giveMeBatches(StringAndInt.class, 100, 7, "1234")
+			.collect(toList());
+
+		List<List<StringAndInt>> actual = SUT.giveMeBatches(StringAndInt.class, 100, 7, "1234")
+			.parallel()
+			.collect(toList());
+
+		then(actual).isEqualTo(expected);
+	}
+
+	@Example
+	void giveMeBatchesTypeReferenceWithSameSeedReturnsSame() {
+		TypeReference<List<StringWithNotBlank>> typeReference = new TypeReference<List<StringWithNotBlank>>() {
+		};
+		List<List<List<StringWithNotBlank>>> expected = SUT.giveMeBatches(typeReference, 30, 7, "1234")
+			.collect(toList());
+
+		List<List<List<StringWithNotBlank>>> actual = SUT.giveMeBatches(typeReference, 30, 7, "1234")
+			.parallel()
+			.collect(toList());
+
+		then(actual).isEqualTo(expected);
+	}
+
+	@Example
+	void giveMeBatchesKeepsRandomOfConsumingThread() {
+		Random expected = Randoms.current();
+
+		SUT.giveMeBatches(StringAndInt.class, 25, 10, "1234").collect(toList());
+
+		Random actual = Randoms.current();
+		then(actual).isSameAs(expected);
+	}
+
+	@Example
+	void giveMeBatchesOfMaxSizeEstimatesBatchCount() {
+		long actual = SUT.giveMeBatches(StringAndInt.class, Long.MAX_VALUE, 10).spliterator().estimateSize();
+
+		then(actual).isEqualTo(Long.MAX_VALUE / 10 + 1);
+	}
+
 	@Property
 	@Domain(FixtureMonkeyTestSpecs.class)
 	void giveMeOptional(@ForAll IntegerOptional integerOptional) {
@@ -1374,4 +1627,111 @@ class FixtureMonkeyTest {
 	void giveMeListAnnotatedBySizeWithoutMax(@ForAll IntegerListAnnotatedBySizeWithoutMax actual) {
 		then(actual.getValues()).hasSizeBetween(1, 1 + DEFAULT_ELEMENT_MAX_SIZE);
 	}
+
+	@Property
+	void giveMeStringWithPattern() {
+		StringWithPattern actual = SUT.giveMeBuilder(StringWithPattern.class)
+			.setNotNull("value")
+			.sample();
+
+		then(actual.getValue()).matches("[a-c]{3}-\\d{2,5}");
+	}
+
+	@Property
+	void giveMeStringWithPatternLongerThanMatchedStrings() {
+		StringWithPatternAndSize actual = SUT.giveMeBuilder(StringWithPatternAndSize.class)
+			.setNotNull("value")
+			.sample();
+
+		then(actual.getValue()).matches("[a-z]+").hasSizeBetween(120, 130);
+	}
+
+	@Example
+	void giveMeStringWithPatternShorterThanSizeThrows() {
+		thenThrownBy(() -> SUT.giveMeBuilder(StringWithPatternShorterThanSize.class).setNotNull("value").sample())
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessageContaining("matches the regex");
+	}
+
+	@Property
+	void giveMeNullAnnotatedWithoutRejection() {
+		MeteredArbitraryValidator<Object> validator =
+			new MeteredArbitraryValidator<>(new CompositeArbitraryValidator());
+		FixtureMonkey sut = FixtureMonkey.builder()
+			.validator(validator)
+			.build();
+
+		NullAnnotated actual = sut.giveMeOne(NullAnnotated.class);
+
+		then(actual.getValue()).isNull();
+		then(actual.getNested()).isNull();
+		then(validator.getValidationCount()).isPositive();
+		then(validator.getRejectionCount()).isZero();
+	}
+
+	@Example
+	void giveMeNullAnnotatedInOtherGroupNotOnlyNull() {
+		FixtureMonkey sut = FixtureMonkey.builder()
+			.defaultNotNull(true)
+			.build();
+
+		List<NullAnnotatedInOtherGroup> actual = sut.giveMe(NullAnnotatedInOtherGroup.class, 10);
+
+		then(actual).extracting(NullAnnotatedInOtherGroup::getValue).doesNotContainNull();
+	}
+
+	@Example
+	void meteredValidatorCountsRejectionsByProperty() {
+		MeteredArbitraryValidator<Object> validator =
+			new MeteredArbitraryValidator<>(new CompositeArbitraryValidator());
+		NullAnnotated invalid = new NullAnnotated();
+		invalid.setValue("test");
+
+		thenThrownBy(() -> validator.validate(invalid)).isExactlyInstanceOf(ConstraintViolationException.class);
+		then(validator.getRejectionCount()).isEqualTo(1);
+		then(validator.getRejectionCountsByProperty())
+			.containsEntry(NullAnnotated.class.getName() + ".value", 1L);
+	}
+
+	@Example
+	void defaultValidatorFindViolationsWithoutThrowing() {
+		DefaultArbitraryValidator<StringWithPattern> validator = new DefaultArbitraryValidator<>();
+		StringWithPattern invalid = new StringWithPattern();
+		invalid.setValue("invalid");
+
+		then(validator.findViolations(invalid)).hasSize(1);
+	}
+
+	@Example
+	void defaultValidatorSkipsGeneratedConstraints() {
+		DefaultArbitraryValidator<StringWithPattern> validator =
+			new DefaultArbitraryValidator<>(DefaultArbitraryValidator.GENERATED_CONSTRAINTS);
+		StringWithPattern skipped = new StringWithPattern();
+		skipped.setValue("invalid");
+
+		thenNoException().isThrownBy(() -> validator.validate(skipped));
+		then(validator.findViolations(skipped)).isEmpty();
+	}
+
+	@Property
+	void giveMeWithValidatorSkippingGeneratedConstraints() {
+		FixtureMonkey sut = FixtureMonkey.builder()
+			.validator(new DefaultArbitraryValidator<>(DefaultArbitraryValidator.GENERATED_CONSTRAINTS))
+			.build();
+
+		StringWithPattern actual = sut.giveMeBuilder(StringWithPattern.class)
+			.setNotNull("value")
+			.sample();
+
+		then(actual.getValue()).matches("[a-c]{3}-\\d{2,5}");
+	}
+
+	@Example
+	void sampleStreamOfCompiledArbitraryReturnsDifferentValues() {
+		Arbitrary<StringAndInt> arbitrary = SUT.giveMeBuilder(StringAndInt.class).build();
+
+		List<StringAndInt> actual = arbitrary.sampleStream().limit(100).collect(toList());
+
+		then(new HashSet<>(actual)).hasSizeGreaterThan(1);
+	}
 }
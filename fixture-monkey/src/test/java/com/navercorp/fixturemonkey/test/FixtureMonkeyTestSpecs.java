@@ -27,8 +27,13 @@ import java.util.Set;
 import java.util.stream.Stream;
 
 import javax.annotation.Nullable;
+import javax.validation.constraints.AssertTrue;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.Null;
+import javax.validation.constraints.Pattern;
 import javax.validation.constraints.Positive;
 import javax.validation.constraints.Size;
 
@@ -80,6 +85,12 @@ class FixtureMonkeyTestSpecs extends DomainContextBase {
 		return SUT.giveMeArbitrary(IntArray.class);
 	}
 
+	@Data
+	public static class BytePayload {
+		@Size(min = 4096, max = 4096)
+		private byte[] payload;
+	}
+
 	@Data
 	public static class MapKeyIntegerValueInteger {
 		private Map<Integer, Integer> values;
@@ -131,6 +142,25 @@ class FixtureMonkeyTestSpecs extends DomainContextBase {
 		return SUT.giveMeArbitrary(IntegerSet.class);
 	}
 
+	public enum SmallEnum {
+		ONE, TWO, THREE
+	}
+
+	@Data
+	public static class SmallEnumSet {
+		private Set<SmallEnum> values;
+	}
+
+	@Data
+	public static class SingleValueIntegerSet {
+		private Set<@Min(1) @Max(1) Integer> values;
+	}
+
+	@Data
+	public static class FullRangeLongSet {
+		private Set<@Min(Long.MIN_VALUE) @Max(Long.MAX_VALUE) Long> values;
+	}
+
 	@Data
 	public static class IntegerIterable {
 		private Iterable<Integer> values;
@@ -156,6 +186,21 @@ class FixtureMonkeyTestSpecs extends DomainContextBase {
 		private Stream<Integer> values;
 	}
 
+	@Data
+	public static class EvenInteger {
+		private int value;
+
+		@AssertTrue
+		public boolean isEven() {
+			return value % 2 == 0;
+		}
+	}
+
+	@Data
+	public static class EvenIntegerStream {
+		private Stream<EvenInteger> values;
+	}
+
 	@Provide
 	Arbitrary<IntegerStream> integerStream() {
 		return SUT.giveMeArbitrary(IntegerStream.class);
@@ -178,6 +223,44 @@ class FixtureMonkeyTestSpecs extends DomainContextBase {
 		private String value;
 	}
 
+	@Data
+	public static class StringWithPattern {
+		@Pattern(regexp = "[a-c]{3}-\\d{2,5}")
+		private String value;
+	}
+
+	@Data
+	public static class StringWithPatternAndSize {
+		@Pattern(regexp = "[a-z]+")
+		@Size(min = 120, max = 130)
+		private String value;
+	}
+
+	@Data
+	public static class StringWithPatternShorterThanSize {
+		@Pattern(regexp = "a{1,3}")
+		@Size(min = 5)
+		private String value;
+	}
+
+	@Data
+	public static class NullAnnotated {
+		@Null
+		private String value;
+
+		@Null
+		private StringWithPattern nested;
+	}
+
+	@Data
+	public static class NullAnnotatedInOtherGroup {
+		@Null(groups = OtherGroup.class)
+		private String value;
+
+		public interface OtherGroup {
+		}
+	}
+
 	@Provide
 	Arbitrary<StringWithNotBlank> stringWithNotBlank() {
 		return SUT.giveMeArbitrary(StringWithNotBlank.class);
@@ -1039,4 +1039,23 @@ class SimpleManipulatorTest {
 		).isExactlyInstanceOf(IllegalArgumentException.class)
 			.hasMessageContaining("Unimplemented manipulator type");
 	}
+
+	@Property
+	void sampleAfterSetReturnsSet() {
+		ArbitraryBuilder<IntValue> builder = SUT.giveMeBuilder(IntValue.class);
+		builder.sample();
+
+		// when
+		IntValue actual = builder.set("value", -1).sample();
+
+		then(actual.getValue()).isEqualTo(-1);
+	}
+
+	@Property
+	void sampleListReturnsDifferentInstances() {
+		// when
+		List<StringValue> actual = SUT.giveMeBuilder(StringValue.class).sampleList(2);
+
+		then(actual.get(0)).isNotSameAs(actual.get(1));
+	}
 }